@@ -0,0 +1,32 @@
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":hyper-context"))
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = sourceCompatibility
+}
+
+val encoding = "UTF-8"
+tasks.withType<JavaCompile> {
+    options.encoding = encoding
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // ./gradlew :hyper-benchmarks:jmh -PjmhIncludes=BeanLookupBenchmark
+    val jmhIncludes = project.findProperty("jmhIncludes") as String?
+    if (!jmhIncludes.isNullOrBlank()) {
+        includes.add(jmhIncludes)
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.factory.DefaultBeanFactory;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>BeanLookupBenchmark</p>
+ * 已刷新的工厂中按名称、类型、泛型类型查找 bean，按接口获取所有 bean 以及创建原型 bean 的耗时，可选在刷新后冻结工厂
+ *
+ * <p>Created on 2026/10/17 17:30</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeanLookupBenchmark {
+
+    private static final TypeReference<SyntheticBeans.Repository<String>> REPOSITORY_TYPE = new TypeReference<>() {};
+
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    private DefaultBeanFactory beanFactory;
+
+    @Setup
+    public void setup() {
+        beanFactory = new DefaultBeanFactory();
+        SyntheticBeans.registerLookupBeans(beanFactory);
+        beanFactory.refresh();
+        if (frozen) {
+            beanFactory.freeze();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanFactory.close();
+    }
+
+    @Benchmark
+    public Object getBeanByName() {
+        return beanFactory.getBean("alpha");
+    }
+
+    @Benchmark
+    public Object getBeanByClass() {
+        return beanFactory.getBean(SyntheticBeans.Alpha.class);
+    }
+
+    @Benchmark
+    public Object getBeanByTypeReference() {
+        return beanFactory.getBean(REPOSITORY_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, SyntheticBeans.Service> getBeansByInterface() {
+        return beanFactory.getBeans(SyntheticBeans.Service.class);
+    }
+
+    @Benchmark
+    public Object createPrototype() {
+        return beanFactory.getBean("prototype");
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.context.ioc.bean.factory.DefaultBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>ContendedLookupBenchmark</p>
+ * 多个线程同时查找同一工厂中的 bean 的吞吐量
+ *
+ * <p>Created on 2026/10/17 17:30</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class ContendedLookupBenchmark {
+
+    private DefaultBeanFactory beanFactory;
+
+    @Setup
+    public void setup() {
+        beanFactory = new DefaultBeanFactory();
+        SyntheticBeans.registerLookupBeans(beanFactory);
+        beanFactory.refresh();
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanFactory.close();
+    }
+
+    @Benchmark
+    public Object getBeanByName() {
+        return beanFactory.getBean("alpha");
+    }
+
+    @Benchmark
+    public Object getBeanByClass() {
+        return beanFactory.getBean(SyntheticBeans.Alpha.class);
+    }
+
+    @Benchmark
+    public Object createPrototype() {
+        return beanFactory.getBean("prototype");
+    }
+}
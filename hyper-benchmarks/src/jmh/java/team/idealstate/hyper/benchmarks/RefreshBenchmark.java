@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.context.ioc.bean.factory.DefaultBeanFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>RefreshBenchmark</p>
+ * 刷新由不同数量 bean 组成的合成 bean 图的耗时，注册 bean 的耗时不计入其中
+ *
+ * <p>Created on 2026/10/17 17:30</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RefreshBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int beanCount;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private ExecutorService refreshExecutor;
+    private DefaultBeanFactory beanFactory;
+
+    @Setup(Level.Trial)
+    public void setupExecutor() {
+        if (parallel) {
+            refreshExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownExecutor() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdown();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        beanFactory = new DefaultBeanFactory();
+        beanFactory.setRefreshExecutor(refreshExecutor);
+        SyntheticBeans.registerGraph(beanFactory, beanCount);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        beanFactory.close();
+    }
+
+    @Benchmark
+    public DefaultBeanFactory refresh() {
+        beanFactory.refresh();
+        return beanFactory;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.factory.DefaultBeanFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>RegistrationBenchmark</p>
+ * 逐个注册与批量注册相同数量 bean 定义的耗时，以及默认与紧凑注册表之间的差异
+ *
+ * <p>Created on 2026/10/17 21:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegistrationBenchmark {
+
+    @Param({"1000", "10000"})
+    private int beanCount;
+
+    @Param({"false", "true"})
+    private boolean bulk;
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private List<BeanDefinition> beanDefinitions;
+    private DefaultBeanFactory beanFactory;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        beanDefinitions = SyntheticBeans.defineGraph(beanCount);
+        beanFactory = new DefaultBeanFactory(null, compact);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        beanFactory.close();
+    }
+
+    @Benchmark
+    public DefaultBeanFactory register() {
+        if (bulk) {
+            beanFactory.registerBeans(beanDefinitions);
+        } else {
+            for (final BeanDefinition beanDefinition : beanDefinitions) {
+                beanFactory.registerBean(beanDefinition);
+            }
+        }
+        return beanFactory;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.benchmarks;
+
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.annotation.Autowired;
+import team.idealstate.hyper.context.ioc.annotation.Bean;
+import team.idealstate.hyper.context.ioc.annotation.Qualifier;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.definition.DefaultBeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.factory.DefaultBeanFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>SyntheticBeans</p>
+ * 基准测试使用的 bean 类型以及合成的 bean 图
+ *
+ * <p>Created on 2026/10/17 17:30</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public abstract class SyntheticBeans {
+
+    /**
+     * 注册查找基准测试使用的少量 bean
+     *
+     * @param beanFactory bean 工厂
+     */
+    public static void registerLookupBeans(DefaultBeanFactory beanFactory) {
+        beanFactory.registerBean(Root.class);
+        beanFactory.registerBean(Alpha.class);
+        beanFactory.registerBean(Beta.class);
+        beanFactory.registerBean(StringRepository.class);
+        beanFactory.registerBean(Prototype.class);
+    }
+
+    /**
+     * 注册一个由指定数量 bean 组成的图：一个根 bean，半数依赖根 bean 的节点，
+     * 其余为叶子，以及一个注入所有叶子的聚合 bean
+     *
+     * @param beanFactory bean 工厂
+     * @param beanCount   bean 数量，至少为 3
+     */
+    public static void registerGraph(DefaultBeanFactory beanFactory, int beanCount) {
+        beanFactory.registerBean(Root.class);
+        beanFactory.registerBean(Aggregate.class);
+        for (int i = 2; i < beanCount; i++) {
+            if ((i & 1) == 0) {
+                beanFactory.registerBean("node" + i, Node.class);
+            } else {
+                beanFactory.registerBean("leaf" + i, Leaf.class);
+            }
+        }
+    }
+
+    /**
+     * 定义与 {@link #registerGraph(DefaultBeanFactory, int)} 相同的图，用于批量注册
+     *
+     * @param beanCount bean 数量，至少为 3
+     * @return bean 定义
+     */
+    public static List<BeanDefinition> defineGraph(int beanCount) {
+        final List<BeanDefinition> beanDefinitions = new ArrayList<>(beanCount);
+        beanDefinitions.add(define("root", Root.class));
+        beanDefinitions.add(define("aggregate", Aggregate.class));
+        for (int i = 2; i < beanCount; i++) {
+            if ((i & 1) == 0) {
+                beanDefinitions.add(define("node" + i, Node.class));
+            } else {
+                beanDefinitions.add(define("leaf" + i, Leaf.class));
+            }
+        }
+        return beanDefinitions;
+    }
+
+    private static BeanDefinition define(String beanName, Class<?> beanType) {
+        final DefaultBeanDefinition beanDefinition = new DefaultBeanDefinition(TypeReference.forType(beanType), null, null);
+        beanDefinition.setName(beanName);
+        return beanDefinition;
+    }
+
+    public interface Service {
+
+        int id();
+    }
+
+    public interface Repository<T> {
+
+        T find(int id);
+    }
+
+    @Bean("root")
+    public static class Root {
+    }
+
+    @Bean("alpha")
+    public static class Alpha implements Service {
+
+        private final Root root;
+
+        @Autowired
+        public Alpha(@Qualifier("root") Root root) {
+            this.root = root;
+        }
+
+        @Override
+        public int id() {
+            return 1;
+        }
+    }
+
+    @Bean("beta")
+    public static class Beta implements Service {
+
+        @Override
+        public int id() {
+            return 2;
+        }
+    }
+
+    @Bean("stringRepository")
+    public static class StringRepository implements Repository<String> {
+
+        @Override
+        public String find(int id) {
+            return Integer.toString(id);
+        }
+    }
+
+    @Bean(value = "prototype", singleton = false)
+    public static class Prototype {
+
+        private final Root root;
+        private final Alpha alpha;
+
+        @Autowired
+        public Prototype(@Qualifier("root") Root root, @Qualifier("alpha") Alpha alpha) {
+            this.root = root;
+            this.alpha = alpha;
+        }
+    }
+
+    public static class Leaf {
+    }
+
+    public static class Node {
+
+        private final Root root;
+
+        @Autowired
+        public Node(@Qualifier("root") Root root) {
+            this.root = root;
+        }
+    }
+
+    @Bean("aggregate")
+    public static class Aggregate {
+
+        private final List<Leaf> leaves;
+
+        @Autowired
+        public Aggregate(List<Leaf> leaves) {
+            this.leaves = leaves;
+        }
+    }
+}
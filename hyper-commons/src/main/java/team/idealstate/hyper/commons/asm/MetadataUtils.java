@@ -99,10 +99,25 @@ public abstract class MetadataUtils {
      */
     @NotNull
     public static ClassMetadata getClassMetadata(byte[] classFile, int api, int parsingOptions) {
+        return getClassMetadata(classFile, api, parsingOptions, true);
+    }
+
+    /**
+     * 获取一个类文件的元数据信息<br>
+     * 不解析继承结构时，返回的元数据中父类与接口均为空，且不会读取其他任何类文件，适用于大量扫描类文件
+     *
+     * @param classFile        类文件字节数组
+     * @param api              ASM API ，详见 {@link Opcodes}
+     * @param parsingOptions   类读取选项，详见 {@link ClassReader}
+     * @param resolveHierarchy 是否解析父类与接口的元数据
+     * @return 类元数据
+     */
+    @NotNull
+    public static ClassMetadata getClassMetadata(byte[] classFile, int api, int parsingOptions, boolean resolveHierarchy) {
         Asserts.notNullOrEmpty(classFile, "classFile");
 
         final ClassReader reader = new ClassReader(classFile);
-        final ClassRecorder recorder = new ClassRecorder(api, parsingOptions);
+        final ClassRecorder recorder = new ClassRecorder(api, null, parsingOptions, resolveHierarchy);
         reader.accept(recorder, parsingOptions);
         return recorder.getMetadata();
     }
@@ -40,17 +40,26 @@ public class ClassRecorder extends ClassVisitor implements MetadataRecorder<Clas
     private final ClassMetadata metadata = new ClassMetadata();
     private final int parsingOptions;
     private final int option;
+    private final boolean resolveHierarchy;
 
     public ClassRecorder(int api, int parsingOptions) {
         this(api, null, parsingOptions);
     }
 
     public ClassRecorder(int api, ClassVisitor classVisitor, int parsingOptions) {
+        this(api, classVisitor, parsingOptions, true);
+    }
+
+    /**
+     * @param resolveHierarchy 是否读取并记录父类与接口的元数据，为 false 时不会读取除当前类文件以外的任何类文件
+     */
+    public ClassRecorder(int api, ClassVisitor classVisitor, int parsingOptions, boolean resolveHierarchy) {
         super(api, classVisitor);
 
         this.collector = null;
         this.option = NORMAL;
         this.parsingOptions = parsingOptions;
+        this.resolveHierarchy = resolveHierarchy;
     }
 
     private ClassRecorder(int api, Object collector, int option, int parsingOptions) {
@@ -66,6 +75,7 @@ public class ClassRecorder extends ClassVisitor implements MetadataRecorder<Clas
         }
         this.option = option;
         this.parsingOptions = parsingOptions;
+        this.resolveHierarchy = true;
     }
 
     @Override
@@ -74,6 +84,10 @@ public class ClassRecorder extends ClassVisitor implements MetadataRecorder<Clas
         metadata.setAccess(access);
         metadata.setName(name);
         metadata.setSignature(signature);
+        if (!resolveHierarchy) {
+            super.visit(version, access, name, signature, superName, interfaces);
+            return;
+        }
         try {
             if (!StringUtils.isNullOrBlank(superName)) {
                 new ClassReader(superName).accept(new ClassRecorder(api, metadata, RECORD_SUPER, parsingOptions), parsingOptions);
@@ -0,0 +1,26 @@
+plugins {
+    id("java")
+    id("java-library")
+}
+
+dependencies {
+    // 仅引用 BeanIndexLoader 中的编译期常量，处理器运行时不依赖 hyper-context
+    compileOnly(project(":hyper-context"))
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = sourceCompatibility
+}
+
+val encoding = "UTF-8"
+tasks.withType<JavaCompile> {
+    options.encoding = encoding
+}
+
+tasks.create<Jar>("sourcesJar") {
+    dependsOn(tasks.classes)
+    charset(encoding)
+    archiveClassifier.set("sources")
+    from(sourceSets.main.get().allSource)
+}
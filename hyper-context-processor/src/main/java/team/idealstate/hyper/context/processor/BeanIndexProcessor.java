@@ -0,0 +1,162 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.processor;
+
+import team.idealstate.hyper.context.ioc.bean.index.BeanIndexLoader;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * <p>BeanIndexProcessor</p>
+ * 在编译期收集所有标注了 {@code @Bean} 的类型并生成 bean 索引文件，位置与版本由 {@link BeanIndexLoader} 定义<br>
+ * 索引文件为 UTF-8 文本，首行为 {@code hyper-beans <版本>}，之后每行描述一个 bean，字段以制表符分隔：<br>
+ * {@code 类型二进制名称 名称 标志 初始化方法 销毁方法}<br>
+ * 标志中 {@code S} 表示单例、{@code P} 表示原型、{@code L} 表示懒加载
+ *
+ * <p>Created on 2026/10/17 13:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes(BeanIndexProcessor.BEAN_ANNOTATION)
+public final class BeanIndexProcessor extends AbstractProcessor {
+
+    static final String BEAN_ANNOTATION = "team.idealstate.hyper.context.ioc.annotation.Bean";
+
+    private final Map<String, String> entries = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (final TypeElement annotation : annotations) {
+            for (final TypeElement typeElement : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                final String entry = toEntry(typeElement);
+                if (entry != null) {
+                    entries.put(binaryName(typeElement), entry);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !entries.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private String toEntry(TypeElement typeElement) {
+        final Messager messager = processingEnv.getMessager();
+        final Set<Modifier> modifiers = typeElement.getModifiers();
+        if (typeElement.getKind() != ElementKind.CLASS || modifiers.contains(Modifier.ABSTRACT)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "bean must be a concrete class", typeElement);
+            return null;
+        }
+        if (typeElement.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "bean must not be an inner class", typeElement);
+            return null;
+        }
+        if (typeElement.getNestingKind().isNested() && typeElement.getNestingKind() != NestingKind.MEMBER) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "bean must not be a local or anonymous class", typeElement);
+            return null;
+        }
+        final AnnotationMirror bean = findAnnotation(typeElement, BEAN_ANNOTATION);
+        final Map<String, Object> values = annotationValues(bean);
+        final String name = (String) values.getOrDefault("value", "");
+        final boolean singleton = (Boolean) values.getOrDefault("singleton", Boolean.TRUE);
+        final boolean lazy = (Boolean) values.getOrDefault("lazy", Boolean.FALSE);
+        final String initMethod = (String) values.getOrDefault("initMethod", "");
+        final String destroyMethod = (String) values.getOrDefault("destroyMethod", "");
+
+        final StringBuilder entry = new StringBuilder(128);
+        entry.append(binaryName(typeElement)).append('\t')
+                .append(clean(name)).append('\t')
+                .append(singleton ? 'S' : 'P');
+        if (lazy) {
+            entry.append('L');
+        }
+        entry.append('\t').append(clean(initMethod))
+                .append('\t').append(clean(destroyMethod));
+        return entry.toString();
+    }
+
+    private String binaryName(TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    private void writeIndex() {
+        final Filer filer = processingEnv.getFiler();
+        try {
+            final FileObject resource = filer.createResource(
+                    StandardLocation.CLASS_OUTPUT, "", BeanIndexLoader.INDEX_LOCATION);
+            try (final Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("hyper-beans " + BeanIndexLoader.INDEX_VERSION + "\n");
+                for (final String entry : entries.values()) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "cannot write " + BeanIndexLoader.INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (final AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            final Element annotationElement = annotationMirror.getAnnotationType().asElement();
+            if (annotationElement instanceof TypeElement that &&
+                    that.getQualifiedName().contentEquals(annotationName)
+            ) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Object> annotationValues(AnnotationMirror annotationMirror) {
+        if (annotationMirror == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Object> values = new HashMap<>(8);
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                annotationMirror.getElementValues().entrySet()
+        ) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return values;
+    }
+
+    private static String clean(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ').replace(',', ' ');
+    }
+}
@@ -5,6 +5,9 @@ plugins {
 
 dependencies {
     api(project(":hyper-resources"))
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 java {
@@ -17,6 +20,10 @@ tasks.withType<JavaCompile> {
     options.encoding = encoding
 }
 
+tasks.withType<Test> {
+    useJUnitPlatform()
+}
+
 tasks.create<Jar>("sourcesJar") {
     dependsOn(tasks.classes)
     charset(encoding)
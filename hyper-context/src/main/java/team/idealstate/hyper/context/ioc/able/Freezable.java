@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.able;
+
+/**
+ * <p>Freezable</p>
+ * 冻结后内容不可再修改，读取无需加锁，清空后解除冻结<br>
+ * 默认实现不支持冻结，{@link #freeze()} 不做任何事且始终未冻结
+ *
+ * <p>Created on 2026/10/17 19:10</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public interface Freezable {
+
+    default void freeze() {
+    }
+
+    default boolean isFrozen() {
+        return false;
+    }
+}
@@ -30,4 +30,11 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface InitMethod {
+
+    /**
+     * 设置了初始化执行器时，异步初始化方法将在其中执行，返回 {@link java.util.concurrent.CompletionStage} 的方法总是被视为异步的
+     *
+     * @return 是否异步执行
+     */
+    boolean async() default false;
 }
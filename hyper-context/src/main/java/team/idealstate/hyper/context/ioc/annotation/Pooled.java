@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.hyper.context.ioc.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * <p>Pooled</p>
+ * 标注在原型 bean 上，使其实例在归还后被复用而非每次重新创建<br>
+ * 池为空时仍会创建新的实例，池只限制保留的空闲实例数量；单例 bean 上的该注解将被忽略
+ *
+ * <p>Created on 2026/10/17 15:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Pooled {
+
+    /**
+     * @return 池中最多保留的空闲实例数量，超出的实例在归还时将被销毁
+     */
+    int maxIdle() default 8;
+
+    /**
+     * @return 空闲实例的最长保留时间（毫秒），超时的实例将被驱逐并销毁，小于等于 0 时不会超时
+     */
+    long maxIdleTime() default 60_000L;
+}
@@ -0,0 +1,34 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.hyper.context.ioc.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * <p>ResetMethod</p>
+ * 池化 bean 的实例在归还至池中前调用的方法，用于清理实例状态
+ *
+ * <p>Created on 2026/10/17 15:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ * @see Pooled
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ResetMethod {
+}
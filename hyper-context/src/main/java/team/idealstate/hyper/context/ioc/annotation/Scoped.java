@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * <p>Scoped</p>
+ * 标注在原型 bean 上，使其在同一作用域内只有一个实例，实例在作用域结束时被销毁<br>
+ * 单例 bean 上的该注解将被忽略，同时标注了 {@link Pooled} 时以作用域为准
+ *
+ * <p>Created on 2026/10/17 16:10</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Scoped {
+
+    /**
+     * @return 作用域
+     */
+    Type value();
+
+    /**
+     * <p>Type</p>
+     *
+     * <p>Created on 2026/10/17 16:10</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    enum Type {
+        /**
+         * 每个线程一个实例，线程终止或调用 {@code endThreadScope} 后被销毁
+         */
+        THREAD,
+        /**
+         * 每个任务作用域一个实例，任务作用域关闭后被销毁
+         */
+        TASK
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.definition;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.generic.TypeReference;
+
+/**
+ * <p>IndexedBeanDefinition</p>
+ * 从编译期生成的 bean 索引或启动快照中读取的 bean 定义，创建时无需读取 {@link team.idealstate.hyper.context.ioc.annotation.Bean} 注解
+ *
+ * <p>Created on 2026/10/17 13:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class IndexedBeanDefinition extends AbstractBeanDefinition {
+
+    public IndexedBeanDefinition(
+            @NotNull TypeReference<?> typeReference,
+            @Nullable String initMethod,
+            @Nullable String destroyMethod
+    ) {
+        super(typeReference, initMethod, destroyMethod);
+    }
+}
@@ -16,28 +16,30 @@
 
 package team.idealstate.hyper.context.ioc.bean.factory;
 
-import team.idealstate.hyper.commons.StringUtils;
 import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
 import team.idealstate.hyper.commons.asserts.Asserts;
 import team.idealstate.hyper.commons.generic.TypeReference;
-import team.idealstate.hyper.commons.order.Order;
-import team.idealstate.hyper.commons.order.OrderComparator;
 import team.idealstate.hyper.context.ioc.ObjectFactory;
-import team.idealstate.hyper.context.ioc.annotation.Autowired;
-import team.idealstate.hyper.context.ioc.annotation.DestroyMethod;
-import team.idealstate.hyper.context.ioc.annotation.InitMethod;
-import team.idealstate.hyper.context.ioc.annotation.Qualifier;
+import team.idealstate.hyper.context.ioc.annotation.Pooled;
+import team.idealstate.hyper.context.ioc.annotation.Scoped;
 import team.idealstate.hyper.context.ioc.aware.BeanFactoryAware;
 import team.idealstate.hyper.context.ioc.aware.BeanNameAware;
 import team.idealstate.hyper.context.ioc.aware.IAware;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinitionDefiner;
+import team.idealstate.hyper.context.ioc.bean.definition.IndexedBeanDefinition;
 import team.idealstate.hyper.context.ioc.bean.registry.BeanDefinitionRegistry;
 import team.idealstate.hyper.context.ioc.bean.registry.BeanObjectRegistry;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupPhase;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupStep;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * <p>AbstractAutowireableBeanFactory</p>
@@ -49,6 +51,14 @@ import java.util.*;
  */
 public abstract class AbstractAutowireableBeanFactory extends AbstractCreatableBeanFactory {
 
+    private final Map<Class<?>, ConstructorInjectionPlan> injectionPlans = new ConcurrentHashMap<>(64);
+    private final Map<Class<?>, LifecycleMetadata> lifecycleMetadata = new ConcurrentHashMap<>(64);
+    private final Map<Class<?>, InjectionMetadata> injectionMetadata = new ConcurrentHashMap<>(64);
+    private final Map<Class<?>, Optional<LazyProxyGenerator.LazyProxyType>> lazyProxyTypes = new ConcurrentHashMap<>(16);
+    private volatile boolean generatedInstantiatorEnabled = false;
+    private volatile boolean lazyProxyEnabled = false;
+    private volatile Executor initExecutor;
+
     protected AbstractAutowireableBeanFactory(
             @NotNull BeanDefinitionDefiner beanDefinitionDefiner,
             @NotNull BeanDefinitionRegistry beanDefinitionRegistry,
@@ -56,6 +66,62 @@ public abstract class AbstractAutowireableBeanFactory extends AbstractCreatableB
         super(beanDefinitionDefiner, beanDefinitionRegistry, beanObjectRegistry);
     }
 
+    protected AbstractAutowireableBeanFactory(
+            @NotNull BeanDefinitionDefiner beanDefinitionDefiner,
+            @NotNull BeanDefinitionRegistry beanDefinitionRegistry,
+            @NotNull BeanObjectRegistry beanObjectRegistry,
+            @Nullable BeanFactory parentBeanFactory) {
+        super(beanDefinitionDefiner, beanDefinitionRegistry, beanObjectRegistry, parentBeanFactory);
+    }
+
+    /**
+     * 启用后将通过 ASM 为每个 bean 类型生成实例化器隐藏类来直接调用构造器，无法生成的类型仍通过反射实例化
+     *
+     * @param generatedInstantiatorEnabled 是否启用
+     */
+    public void setGeneratedInstantiatorEnabled(boolean generatedInstantiatorEnabled) {
+        this.generatedInstantiatorEnabled = generatedInstantiatorEnabled;
+        injectionPlans.clear();
+    }
+
+    public boolean isGeneratedInstantiatorEnabled() {
+        return generatedInstantiatorEnabled;
+    }
+
+    /**
+     * 启用后，构造器依赖为尚未创建的懒加载单例或当前线程正在创建的单例（构造器循环依赖）时，
+     * 将注入通过 ASM 生成的延迟代理，目标 bean 在代理的方法首次被调用时才获取<br>
+     * 依赖为异步初始化尚未完成的单例时同样注入延迟代理，首次调用时才等待其初始化完成<br>
+     * 依赖类型为 final 类等无法代理的类型时仍按原方式解析
+     *
+     * @param lazyProxyEnabled 是否启用
+     */
+    public void setLazyProxyEnabled(boolean lazyProxyEnabled) {
+        this.lazyProxyEnabled = lazyProxyEnabled;
+    }
+
+    public boolean isLazyProxyEnabled() {
+        return lazyProxyEnabled;
+    }
+
+    /**
+     * 设置执行单例异步初始化方法的执行器，设置后单例在同步初始化完成时即被发布，刷新无需等待其异步初始化<br>
+     * 获取或注入该单例时会等待其异步初始化完成，启用延迟代理时注入代理而推迟至首次调用时等待<br>
+     * 异步初始化方法中不应获取依赖于自身所属 bean 的其他 bean，否则将相互等待<br>
+     * 为 null 时（默认）异步初始化方法将在创建线程中执行并等待其完成
+     *
+     * @param initExecutor 执行器
+     * @see team.idealstate.hyper.context.ioc.annotation.InitMethod#async()
+     */
+    public void setInitExecutor(@Nullable Executor initExecutor) {
+        this.initExecutor = initExecutor;
+    }
+
+    @Nullable
+    public Executor getInitExecutor() {
+        return initExecutor;
+    }
+
     @NotNull
     @Override
     protected Object createSingleton(@NotNull BeanDefinition beanDefinition) {
@@ -88,79 +154,329 @@ public abstract class AbstractAutowireableBeanFactory extends AbstractCreatableB
 
     @Override
     protected void initBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
-        final Class<?> beanType = beanDefinition.getType();
-        final String initMethodName = beanDefinition.getInitMethod();
-        try {
-            invokeLifeMethod(beanType, initMethodName, beanObject);
-            final Method[] declaredMethods = beanType.getDeclaredMethods();
-            invokeAnnotatedLifeMethods(declaredMethods, initMethodName, InitMethod.class, beanObject);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
+        final LifecycleMetadata metadata = getLifecycleMetadata(beanDefinition.getType());
+        LifecycleMetadata.invoke(metadata.getInitMethods(beanDefinition.getInitMethod()), beanObject);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings({"rawtypes"})
+    protected CompletableFuture<Void> initBeanAsync(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
+        final LifecycleMetadata.AsyncInitMethod[] asyncInitMethods =
+                getLifecycleMetadata(beanDefinition.getType()).getAsyncInitMethods(beanDefinition.getInitMethod());
+        if (asyncInitMethods.length == 0) {
+            return null;
         }
+        final Executor initExecutor = beanDefinition.isSingleton() ? this.initExecutor : null;
+        final CompletableFuture<?>[] initializations = new CompletableFuture[asyncInitMethods.length];
+        LifecycleMetadata.AsyncInitMethod asyncInitMethod;
+        CompletionStage<?> stage;
+        for (int i = 0; i < asyncInitMethods.length; i++) {
+            asyncInitMethod = asyncInitMethods[i];
+            if (initExecutor != null && asyncInitMethod.isRunOnExecutor()) {
+                final LifecycleMetadata.AsyncInitMethod method = asyncInitMethod;
+                initializations[i] = CompletableFuture.supplyAsync(() -> method.invoke(beanObject), initExecutor)
+                        .thenCompose(result -> result == null ? CompletableFuture.completedFuture(null) : result);
+                continue;
+            }
+            stage = asyncInitMethod.invoke(beanObject);
+            initializations[i] = stage == null ? CompletableFuture.completedFuture(null) : stage.toCompletableFuture();
+        }
+        final CompletableFuture<Void> initialization = CompletableFuture.allOf(initializations);
+        if (initExecutor == null) {
+            initialization.join();
+            return null;
+        }
+        return initialization;
     }
 
     @Override
     protected void destroyBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
-        final Class<?> beanType = beanDefinition.getType();
-        final String destroyMethodName = beanDefinition.getDestroyMethod();
-        try {
-            invokeLifeMethod(beanType, destroyMethodName, beanObject);
-            final Method[] declaredMethods = beanType.getDeclaredMethods();
-            invokeAnnotatedLifeMethods(declaredMethods, destroyMethodName, DestroyMethod.class, beanObject);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
+        final LifecycleMetadata metadata = getLifecycleMetadata(beanDefinition.getType());
+        LifecycleMetadata.invoke(metadata.getDestroyMethods(beanDefinition.getDestroyMethod()), beanObject);
+    }
+
+    @Nullable
+    @Override
+    protected BeanPool createBeanPool(@NotNull BeanDefinition beanDefinition) {
+        final Pooled pooled = beanDefinition.getType().getDeclaredAnnotation(Pooled.class);
+        if (pooled == null || beanDefinition.isSingleton()) {
+            return null;
         }
+        return new BeanPool(beanDefinition, pooled.maxIdle(), pooled.maxIdleTime());
     }
 
-    private void invokeLifeMethod(Class<?> beanType, String methodName, Object object) throws InvocationTargetException, IllegalAccessException {
-        if (StringUtils.isNullOrBlank(methodName)) {
-            return;
+    @Nullable
+    @Override
+    protected Scoped.Type resolveBeanScope(@NotNull BeanDefinition beanDefinition) {
+        final Scoped scoped = beanDefinition.getType().getDeclaredAnnotation(Scoped.class);
+        if (scoped == null || beanDefinition.isSingleton()) {
+            return null;
         }
-        try {
-            final Method method = beanType.getDeclaredMethod(methodName);
-            method.setAccessible(true);
-            method.invoke(object);
-        } catch (NoSuchMethodException ignored) {}
+        return scoped.value();
+    }
+
+    @Override
+    protected void resetBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
+        final LifecycleMetadata metadata = getLifecycleMetadata(beanDefinition.getType());
+        LifecycleMetadata.invoke(metadata.getResetMethods(), beanObject);
     }
 
-    private void invokeAnnotatedLifeMethods(
-            Method[] declaredMethods,
-            String excludeName,
-            Class<? extends Annotation> annotationType,
-            Object object
-    ) throws InvocationTargetException, IllegalAccessException {
-        final List<Method> methods = new ArrayList<>(declaredMethods.length / 2);
-        for (final Method declaredMethod : declaredMethods) {
-            if (!declaredMethod.getName().equals(excludeName) &&
-                    declaredMethod.getDeclaredAnnotation(annotationType) != null
+    @Override
+    protected void populateBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
+        final InjectionMetadata metadata = getInjectionMetadata(beanObject.getClass());
+        if (!metadata.isEmpty()) {
+            metadata.inject(this, beanObject);
+        }
+    }
+
+    @NotNull
+    @Override
+    protected Collection<String> resolveDependencyNames(@NotNull BeanDefinition beanDefinition) {
+        final ConstructorInjectionPlan injectionPlan;
+        try {
+            injectionPlan = getInjectionPlan(beanDefinition.getType());
+        } catch (RuntimeException e) {
+            return Collections.emptyList();
+        }
+        final List<DependencyDescriptor> dependencies = new ArrayList<>(
+                injectionPlan.getCandidates().get(0).getDependencies());
+        try {
+            dependencies.addAll(getInjectionMetadata(beanDefinition.getType()).getDependencies());
+        } catch (RuntimeException ignored) {}
+        if (dependencies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Set<String> dependencyNames = new LinkedHashSet<>(dependencies.size() * 2);
+        String dependencyName;
+        BeanDefinition dependency;
+        List<BeanDefinition> candidates;
+        Type elementType;
+        for (final DependencyDescriptor descriptor : dependencies) {
+            dependencyName = descriptor.getName();
+            dependency = beanDefinitionRegistry.getBeanDefinition(dependencyName);
+            if (dependency != null && descriptor.getTypeReference()
+                    .isAssignableFrom(dependency.getTypeReference().getReferenceType())
             ) {
-                methods.add(declaredMethod);
+                dependencyNames.add(dependencyName);
+                continue;
+            }
+            if (!descriptor.isQualified()) {
+                candidates = beanDefinitionRegistry.getBeanDefinitions(descriptor.getType());
+                if (!candidates.isEmpty()) {
+                    candidates.forEach(candidate -> dependencyNames.add(candidate.getName()));
+                    continue;
+                }
+            }
+            elementType = descriptor.getElementType();
+            if (elementType != null) {
+                beanDefinitionRegistry.getBeanDefinitions(elementType)
+                        .forEach(candidate -> dependencyNames.add(candidate.getName()));
             }
         }
-        methods.sort(OrderComparator.reflectElement());
-        for (final Method method : methods) {
-            method.setAccessible(true);
-            method.invoke(object);
-        }
+        return dependencyNames;
     }
 
     @Override
-    protected void populateBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
+    protected void doClear() {
+        super.doClear();
+        injectionPlans.clear();
+        lifecycleMetadata.clear();
+        injectionMetadata.clear();
+        lazyProxyTypes.clear();
+    }
 
+    /**
+     * 导出已注册的 bean 定义，可写入 {@link team.idealstate.hyper.context.ioc.bean.index.BeanDefinitionSnapshot}<br>
+     * 注册时直接提供了实例的 bean 与泛型 bean 类型不会被导出
+     *
+     * @return 按名称排序的 bean 定义
+     */
+    @NotNull
+    public List<IndexedBeanDefinition> exportBeanDefinitions() {
+        final List<BeanDefinition> beanDefinitions = beanDefinitionRegistry.getBeanDefinitions();
+        final List<IndexedBeanDefinition> result = new ArrayList<>(beanDefinitions.size());
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            final String beanName = beanDefinition.getName();
+            if (isProvidedBean(beanName) || !(beanDefinition.getTypeReference().getReferenceType() instanceof Class<?>)) {
+                continue;
+            }
+            final IndexedBeanDefinition indexedBeanDefinition;
+            if (beanDefinition instanceof IndexedBeanDefinition that) {
+                indexedBeanDefinition = that;
+            } else {
+                indexedBeanDefinition = new IndexedBeanDefinition(beanDefinition.getTypeReference(),
+                        beanDefinition.getInitMethod(), beanDefinition.getDestroyMethod());
+                indexedBeanDefinition.setName(beanName);
+                indexedBeanDefinition.setSingleton(beanDefinition.isSingleton());
+                indexedBeanDefinition.setLazy(beanDefinition.isLazy());
+            }
+            result.add(indexedBeanDefinition);
+        }
+        result.sort(Comparator.comparing(BeanDefinition::getName));
+        return result;
+    }
+
+    /**
+     * 在创建任何 bean 之前，根据已注册的 bean 定义静态分析完整的依赖图<br>
+     * 报告构造器循环依赖、无法满足与存在歧义的依赖，不考虑延迟代理
+     *
+     * @return 依赖图
+     */
+    @NotNull
+    public DependencyGraph analyzeDependencies() {
+        return new DependencyGraphAnalyzer(this).analyze();
+    }
+
+    /**
+     * @param dependency 依赖
+     * @return 依赖的延迟代理，不需要或无法代理时返回 null
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Object resolveLazyProxy(@NotNull DependencyDescriptor dependency) {
+        if (!lazyProxyEnabled || dependency.getElementType() != null) {
+            return null;
+        }
+        BeanDefinition target = beanDefinitionRegistry.getBeanDefinition(dependency.getName());
+        if (target == null || !dependency.getTypeReference().isAssignableFrom(target.getTypeReference().getReferenceType())) {
+            if (dependency.isQualified()) {
+                return null;
+            }
+            final List<BeanDefinition> candidates = beanDefinitionRegistry.getBeanDefinitions(dependency.getType());
+            if (candidates.size() != 1) {
+                return null;
+            }
+            target = candidates.get(0);
+        }
+        final String targetName = target.getName();
+        if (!target.isSingleton()) {
+            return null;
+        }
+        // 异步初始化尚未完成的单例注入代理，依赖方首次调用时才等待其初始化完成
+        if (!isSingletonInitializing(targetName) && (isSingletonInitialized(targetName) ||
+                !(target.isLazy() || isCurrentlyCreating(targetName)))
+        ) {
+            return null;
+        }
+        final LazyProxyGenerator.LazyProxyType proxyType =
+                getLazyProxyType(dependency.getTypeReference().getRawReferenceType());
+        if (proxyType == null) {
+            return null;
+        }
+        return proxyType.newProxy(new LazyBeanTarget(this, targetName, (TypeReference) target.getTypeReference()));
+    }
+
+    @Nullable
+    private LazyProxyGenerator.LazyProxyType getLazyProxyType(@NotNull Class<?> type) {
+        Optional<LazyProxyGenerator.LazyProxyType> proxyType = lazyProxyTypes.get(type);
+        if (proxyType == null) {
+            proxyType = Optional.ofNullable(LazyProxyGenerator.generate(type));
+            final Optional<LazyProxyGenerator.LazyProxyType> previous = lazyProxyTypes.putIfAbsent(type, proxyType);
+            if (previous != null) {
+                proxyType = previous;
+            }
+        }
+        return proxyType.orElse(null);
+    }
+
+    /**
+     * @param beanType bean 类型
+     * @return 该类型的构造器注入计划，同一类型只会解析一次
+     */
+    @NotNull
+    ConstructorInjectionPlan getInjectionPlan(@NotNull Class<?> beanType) {
+        ConstructorInjectionPlan injectionPlan = injectionPlans.get(beanType);
+        if (injectionPlan == null) {
+            injectionPlan = new ConstructorInjectionPlan(beanType, generatedInstantiatorEnabled);
+            final ConstructorInjectionPlan previous = injectionPlans.putIfAbsent(beanType, injectionPlan);
+            if (previous != null) {
+                injectionPlan = previous;
+            }
+        }
+        return injectionPlan;
+    }
+
+    /**
+     * @param beanType bean 类型
+     * @return 该类型的字段与方法注入点，同一类型只会解析一次
+     */
+    @NotNull
+    InjectionMetadata getInjectionMetadata(@NotNull Class<?> beanType) {
+        InjectionMetadata metadata = injectionMetadata.get(beanType);
+        if (metadata == null) {
+            metadata = new InjectionMetadata(beanType);
+            final InjectionMetadata previous = injectionMetadata.putIfAbsent(beanType, metadata);
+            if (previous != null) {
+                metadata = previous;
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * @param beanType bean 类型
+     * @return 该类型的生命周期方法，同一类型只会解析一次
+     */
+    @NotNull
+    private LifecycleMetadata getLifecycleMetadata(@NotNull Class<?> beanType) {
+        LifecycleMetadata metadata = lifecycleMetadata.get(beanType);
+        if (metadata == null) {
+            metadata = new LifecycleMetadata(beanType);
+            final LifecycleMetadata previous = lifecycleMetadata.putIfAbsent(beanType, metadata);
+            if (previous != null) {
+                metadata = previous;
+            }
+        }
+        return metadata;
+    }
+
+    private static final class LazyBeanTarget implements LazyTarget {
+
+        private final AbstractAutowireableBeanFactory beanFactory;
+        private final String beanName;
+        private final TypeReference<Object> beanTypeReference;
+        private volatile Object target;
+
+        private LazyBeanTarget(
+                @NotNull AbstractAutowireableBeanFactory beanFactory,
+                @NotNull String beanName,
+                @NotNull TypeReference<Object> beanTypeReference
+        ) {
+            this.beanFactory = beanFactory;
+            this.beanName = beanName;
+            this.beanTypeReference = beanTypeReference;
+        }
+
+        @NotNull
+        @Override
+        public Object getTarget() {
+            Object target = this.target;
+            if (target == null) {
+                synchronized (this) {
+                    target = this.target;
+                    if (target == null) {
+                        target = beanFactory.getBean(beanName, beanTypeReference);
+                        if (target == null) {
+                            throw new IllegalStateException("[beanName: " + beanName + "] lazy proxy target is not available");
+                        }
+                        this.target = target;
+                    }
+                }
+            }
+            return target;
+        }
     }
 
     @SuppressWarnings({"rawtypes"})
     private static class AutowireableBeanObjectFactory implements ObjectFactory {
 
-        private static final Class<? extends Annotation> AUTOWIRED = Autowired.class;
-        private static final TypeReference<Map<String, Object>> BEANS_MAP_TYPE = new TypeReference<>(){};
-        private static final TypeReference<Collection<Object>> BEANS_COLLECTION_TYPE = new TypeReference<>(){};
-
-        private final BeanFactory beanFactory;
+        private final AbstractAutowireableBeanFactory beanFactory;
         private final BeanDefinition beanDefinition;
+        private final ConstructorInjectionPlan injectionPlan;
 
         private AutowireableBeanObjectFactory(
-                @NotNull BeanFactory beanFactory,
+                @NotNull AbstractAutowireableBeanFactory beanFactory,
                 @NotNull BeanDefinition beanDefinition
         ) {
             Asserts.notNull(beanFactory, "beanFactory");
@@ -182,104 +498,41 @@ public abstract class AbstractAutowireableBeanFactory extends AbstractCreatableB
             } else {
                 throw new IllegalArgumentException("unsupported type: " + referenceType.getTypeName());
             }
+            this.injectionPlan = beanFactory.getInjectionPlan(beanDefinition.getType());
         }
 
         @Override
-        @SuppressWarnings({"unchecked"})
         public Object getObject() {
-            final List<Constructor<?>> constructors = resolveConstructors(beanDefinition.getType());
-            Parameter[] parameters;
-            final List<Object> parameterObjects = new ArrayList<>(6);
-            for (final Constructor<?> constructor : constructors) {
-                parameters = constructor.getParameters();
-                if (parameters.length > 0) {
-                    Qualifier qualifier;
-                    Type parameterizedType;
-                    String parameterName;
-                    TypeReference beanTypeReference;
-                    Object parameterObject;
-                    Map<String, Object> beanObjects;
-                    for (final Parameter parameter : parameters) {
-                        qualifier = parameter.getDeclaredAnnotation(Qualifier.class);
-                        parameterizedType = parameter.getParameterizedType();
-                        parameterName = parameter.getName();
-                        if (qualifier != null && !StringUtils.isNullOrBlank(qualifier.value())) {
-                            parameterName = qualifier.value();
-                        }
-                        beanTypeReference = TypeReference.forType(parameterizedType);
-                        parameterObject = beanFactory.getBean(parameterName, beanTypeReference);
-                        if (parameterObject == null && qualifier == null) {
-                            beanObjects = beanFactory.getBeans(beanTypeReference);
-                            for (final Object beanObject : beanObjects.values()) {
-                                parameterObject = beanObject;
-                                break;
-                            }
-                        }
-                        // @formatter:off
-                        if (parameterObject == null && parameterizedType instanceof ParameterizedType that) {
-                            final Type thatRawType = that.getRawType();
-                            if (BEANS_MAP_TYPE.isAssignableFrom(that) &&
-                                    Map.class.equals(thatRawType)
-                            ) {
-                                final Type beanType = that.getActualTypeArguments()[1];
-                                parameterObject = beanFactory.getBeans(TypeReference.forType(beanType));
-                            }
-                            else if (BEANS_COLLECTION_TYPE.isAssignableFrom(that)) {
-                                final Type beanType = that.getActualTypeArguments()[0];
-                                if (Collection.class.equals(thatRawType) || List.class.equals(thatRawType)) {
-                                    parameterObject = new ArrayList<>(
-                                            beanFactory.getBeans(TypeReference.forType(beanType)).values());
-                                }
-                                else if (Set.class.equals(thatRawType)) {
-                                    parameterObject = new HashSet<>(
-                                            beanFactory.getBeans(TypeReference.forType(beanType)).values());
-                                }
-                            }
-                        }
-                        // @formatter:on
-                        if (parameter.getDeclaredAnnotation(NotNull.class) != null) {
-                            Asserts.notNull(parameterObject, parameterName);
-                        }
-                        parameterObjects.add(parameterObject);
-                    }
-                }
-                constructor.setAccessible(true);
+            final String beanName = beanDefinition.getName();
+            final Class<?> beanType = beanDefinition.getType();
+            final List<ConstructorInjectionPlan.Candidate> candidates = injectionPlan.getCandidates();
+            final int lastIndex = candidates.size() - 1;
+            ConstructorInjectionPlan.Candidate candidate;
+            StartupStep step;
+            Object[] arguments;
+            for (int i = 0; i <= lastIndex; i++) {
+                candidate = candidates.get(i);
+                step = beanFactory.startStep(StartupPhase.DEPENDENCY_RESOLUTION, beanName, beanType, null);
                 try {
-                    return constructor.newInstance(parameterObjects.toArray());
-                } catch (InstantiationException | IllegalAccessException | InvocationTargetException ignored) {}
-                if (!parameterObjects.isEmpty()) {
-                    parameterObjects.clear();
+                    // 必需的依赖不存在时回退至下一个构造器，最后一个构造器仍会因此抛出异常
+                    arguments = i < lastIndex
+                            ? candidate.resolveArgumentsIfPresent(beanFactory)
+                            : candidate.resolveArguments(beanFactory);
+                } finally {
+                    step.end();
                 }
-            }
-            throw new RuntimeException("no constructor is available");
-        }
-
-        private List<Constructor<?>> resolveConstructors(Class<?> type) {
-            final List<Constructor<?>> constructors = new ArrayList<>(List.of(type.getDeclaredConstructors()));
-            final Iterator<Constructor<?>> iterator = constructors.iterator();
-            Constructor<?> constructor;
-            Constructor<?> noParamConstructor = null;
-            while (iterator.hasNext()) {
-                constructor = iterator.next();
-                if (constructor.getParameterCount() == 0) {
-                    if (constructor.getDeclaredAnnotation(Order.class) == null) {
-                        iterator.remove();
-                        noParamConstructor = constructor;
-                        continue;
-                    }
+                if (arguments == null) {
+                    continue;
                 }
-                if (constructor.getDeclaredAnnotation(AUTOWIRED) == null) {
-                    iterator.remove();
+                step = beanFactory.startStep(StartupPhase.INSTANTIATION, beanName, beanType, null);
+                try {
+                    return candidate.newInstance(arguments);
+                } catch (InstantiationException | IllegalAccessException | InvocationTargetException ignored) {
+                } finally {
+                    step.end();
                 }
             }
-            constructors.sort(OrderComparator.reflectElement());
-            if (noParamConstructor != null) {
-                constructors.add(noParamConstructor);
-            }
-            if (constructors.isEmpty()) {
-                throw new RuntimeException("no constructor is available");
-            }
-            return constructors;
+            throw new RuntimeException("no constructor is available");
         }
     }
 }
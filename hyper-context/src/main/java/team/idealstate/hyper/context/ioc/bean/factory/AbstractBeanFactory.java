@@ -65,12 +65,21 @@ public abstract class AbstractBeanFactory implements BeanFactory, BeanFactoryMul
         Asserts.notNull(beanPostProcessor, "beanPostProcessor");
         if (!this.beanPostProcessors.contains(beanPostProcessor)) {
             this.beanPostProcessors.add(beanPostProcessor);
+            beanPostProcessorsChanged();
         }
     }
 
     @Override
     public void removeBeanPostProcessor(@NotNull BeanPostProcessor beanPostProcessor) {
         Asserts.notNull(beanPostProcessor, "beanPostProcessor");
-        this.beanPostProcessors.remove(beanPostProcessor);
+        if (this.beanPostProcessors.remove(beanPostProcessor)) {
+            beanPostProcessorsChanged();
+        }
+    }
+
+    /**
+     * 添加或移除 bean 后置处理器后调用
+     */
+    protected void beanPostProcessorsChanged() {
     }
 }
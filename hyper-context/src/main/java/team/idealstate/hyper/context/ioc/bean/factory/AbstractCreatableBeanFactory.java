@@ -22,16 +22,25 @@ import team.idealstate.hyper.commons.asserts.Asserts;
 import team.idealstate.hyper.commons.generic.TypeReference;
 import team.idealstate.hyper.commons.order.OrderComparator;
 import team.idealstate.hyper.context.ioc.ObjectFactory;
+import team.idealstate.hyper.context.ioc.annotation.Scoped;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinitionDefiner;
 import team.idealstate.hyper.context.ioc.bean.registry.BeanDefinitionRegistry;
 import team.idealstate.hyper.context.ioc.bean.registry.BeanObjectRegistry;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupPhase;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupStep;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupTimeline;
 import team.idealstate.hyper.context.ioc.exception.bean.BeanCreationException;
 import team.idealstate.hyper.context.ioc.exception.bean.BeanInitializationException;
 import team.idealstate.hyper.context.ioc.exception.bean.CircularDependencyException;
 
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>AbstractCreatableBeanFactory</p>
@@ -41,18 +50,192 @@ import java.util.*;
  * @author ketikai
  * @since 1.0.0
  */
-public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBeanFactory {
+public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBeanFactory implements HierarchicalBeanFactory {
 
-    private final Map<String, Object> earlyObjects = new HashMap<>(16);
+    private static final int THREAD_SCOPE_SWEEP_THRESHOLD = 64;
 
-    private final Map<String, BeanDefinition> currentlyInCreationBeans = new LinkedHashMap<>(16);
+    private final Map<String, Object> earlyObjects = new ConcurrentHashMap<>(16);
+
+    /**
+     * 当前线程正在创建的 bean，用于循环依赖检查
+     */
+    private final ThreadLocal<Map<String, BeanDefinition>> currentlyInCreationBeans =
+            ThreadLocal.withInitial(() -> new LinkedHashMap<>(16));
+
+    /**
+     * 已完成初始化的单例，读取时无需获取 {@link #globalLock}
+     */
+    private final Map<String, InitializedSingleton> initializedSingletons = new ConcurrentHashMap<>(64);
+
+    /**
+     * 异步初始化尚未完成或已失败的单例
+     */
+    private final Map<String, CompletableFuture<Void>> initializingSingletons = new ConcurrentHashMap<>(16);
+
+    /**
+     * bean 级别的创建锁，创建 bean 时无需获取 {@link #globalLock}
+     */
+    private final BeanCreationLocks creationLocks = new BeanCreationLocks();
+
+    /**
+     * 池化原型 bean 的空闲实例池
+     */
+    private final Map<String, BeanPool> beanPools = new ConcurrentHashMap<>(16);
+
+    /**
+     * 作用域 bean 的作用域
+     */
+    private final Map<String, Scoped.Type> beanScopes = new ConcurrentHashMap<>(16);
+
+    /**
+     * 各线程的线程作用域实例，以线程为键以便在线程终止后销毁
+     */
+    private final Map<Thread, ScopedBeans> threadScopedBeans = new ConcurrentHashMap<>(16);
+
+    /**
+     * 当前线程绑定的任务作用域
+     */
+    private final ThreadLocal<TaskScope> currentTaskScope = new ThreadLocal<>();
+
+    private final Set<TaskScope> openTaskScopes = ConcurrentHashMap.newKeySet(16);
+
+    private volatile int threadScopeSweepThreshold = THREAD_SCOPE_SWEEP_THRESHOLD;
+
+    /**
+     * 按 bean 类型筛选后的 bean 后置处理器
+     */
+    private volatile BeanPostProcessorIndex beanPostProcessorIndex = BeanPostProcessorIndex.EMPTY;
+
+    private volatile Executor refreshExecutor;
+
+    private volatile Executor shutdownExecutor;
+
+    private volatile long destroyTimeoutNanos;
+
+    private volatile long shutdownTimeoutNanos;
+
+    private volatile ShutdownReport shutdownReport;
+
+    /**
+     * 只读的父工厂，子工厂不会向其注册、刷新或关闭它
+     */
+    private final BeanFactory parentBeanFactory;
 
     protected AbstractCreatableBeanFactory(
             @NotNull BeanDefinitionDefiner beanDefinitionDefiner,
             @NotNull BeanDefinitionRegistry beanDefinitionRegistry,
             @NotNull BeanObjectRegistry beanObjectRegistry
+    ) {
+        this(beanDefinitionDefiner, beanDefinitionRegistry, beanObjectRegistry, null);
+    }
+
+    /**
+     * @param parentBeanFactory 父工厂，应当已完成刷新并冻结
+     */
+    protected AbstractCreatableBeanFactory(
+            @NotNull BeanDefinitionDefiner beanDefinitionDefiner,
+            @NotNull BeanDefinitionRegistry beanDefinitionRegistry,
+            @NotNull BeanObjectRegistry beanObjectRegistry,
+            @Nullable BeanFactory parentBeanFactory
     ) {
         super(beanDefinitionDefiner, beanDefinitionRegistry, beanObjectRegistry);
+        Asserts.isTrue(parentBeanFactory != this, "parentBeanFactory must not be itself");
+        this.parentBeanFactory = parentBeanFactory;
+    }
+
+    @Nullable
+    @Override
+    public BeanFactory getParentBeanFactory() {
+        return parentBeanFactory;
+    }
+
+    @Override
+    public boolean containsLocalBean(@NotNull String beanName) {
+        Asserts.hasText(beanName, "beanName");
+        return beanDefinitionRegistry.containsBeanDefinition(beanName);
+    }
+
+    /**
+     * 设置刷新时用于并行创建单例的执行器<br>
+     * 为 null 时（默认）将在刷新线程中逐个创建
+     *
+     * @param refreshExecutor 执行器
+     */
+    public void setRefreshExecutor(@Nullable Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Nullable
+    public Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /**
+     * 设置清理时用于并行销毁单例的执行器<br>
+     * 为 null 时（默认）将在清理线程中按依赖的逆序逐个销毁
+     *
+     * @param shutdownExecutor 执行器
+     */
+    public void setShutdownExecutor(@Nullable Executor shutdownExecutor) {
+        this.shutdownExecutor = shutdownExecutor;
+    }
+
+    @Nullable
+    public Executor getShutdownExecutor() {
+        return shutdownExecutor;
+    }
+
+    /**
+     * 设置销毁单个单例的时限，超出后依赖它的 bean 不再等待其销毁完成
+     *
+     * @param destroyTimeout 时限（毫秒），小于等于 0 时（默认）不限制
+     */
+    public void setDestroyTimeout(long destroyTimeout) {
+        this.destroyTimeoutNanos = destroyTimeout <= 0 ? 0L : TimeUnit.MILLISECONDS.toNanos(destroyTimeout);
+    }
+
+    /**
+     * 设置销毁所有单例的总时限，超出后尚未开始销毁的单例将被跳过
+     *
+     * @param shutdownTimeout 时限（毫秒），小于等于 0 时（默认）不限制
+     */
+    public void setShutdownTimeout(long shutdownTimeout) {
+        this.shutdownTimeoutNanos = shutdownTimeout <= 0 ? 0L : TimeUnit.MILLISECONDS.toNanos(shutdownTimeout);
+    }
+
+    /**
+     * 返回的 future 独立于内部的初始化状态，完成或取消它不会影响进行中的初始化
+     *
+     * @return 当前所有单例的异步初始化均完成时完成的 future，任一失败时以其异常完成
+     * @see AbstractAutowireableBeanFactory#setInitExecutor(Executor)
+     */
+    @NotNull
+    public CompletableFuture<Void> getReadyFuture() {
+        if (initializingSingletons.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(initializingSingletons.values().toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * 返回的 future 为内部 future 的副本，完成或取消它不会影响进行中的初始化
+     *
+     * @param beanName bean 名称
+     * @return 该单例的异步初始化完成时完成的 future，没有进行中的异步初始化时已完成
+     */
+    @NotNull
+    public CompletableFuture<Void> getReadyFuture(@NotNull String beanName) {
+        Asserts.hasText(beanName, "beanName");
+        final CompletableFuture<Void> initialization = initializingSingletons.get(beanName);
+        return initialization == null ? CompletableFuture.completedFuture(null) : initialization.copy();
+    }
+
+    /**
+     * @return 最近一次清理中单例的销毁结果，尚未清理过时返回 null
+     */
+    @Nullable
+    public ShutdownReport getShutdownReport() {
+        return shutdownReport;
     }
 
     @Override
@@ -64,9 +247,83 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
                     return isEagerRefresh(beanName);
                 })
                 .toList();
+        final Executor refreshExecutor = this.refreshExecutor;
+        if (refreshExecutor != null && needRefreshBeanDefinitions.size() > 1) {
+            doRefreshConcurrently(needRefreshBeanDefinitions, refreshExecutor);
+            return;
+        }
         for (final BeanDefinition beanDefinition : needRefreshBeanDefinitions) {
-            getOrCreateBean(beanDefinition, true);
+            getOrCreateBeanWithLock(beanDefinition, true);
+        }
+    }
+
+    /**
+     * 解析 bean 在创建时所依赖的其他 bean 的名称，用于并行刷新时的依赖排序<br>
+     * 未能解析出的依赖仍会在创建时按需创建
+     *
+     * @param beanDefinition bean 定义
+     * @return 依赖的 bean 名称
+     */
+    @NotNull
+    protected abstract Collection<String> resolveDependencyNames(@NotNull BeanDefinition beanDefinition);
+
+    private void doRefreshConcurrently(List<BeanDefinition> beanDefinitions, Executor executor) {
+        final Map<String, BeanDefinition> beanDefinitionsByName = new LinkedHashMap<>(beanDefinitions.size() * 2);
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            beanDefinitionsByName.put(beanDefinition.getName(), beanDefinition);
+        }
+        final Map<String, CompletableFuture<Void>> creations = new HashMap<>(beanDefinitions.size() * 2);
+        final Set<String> visiting = new HashSet<>(16);
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            scheduleCreation(beanDefinition, beanDefinitionsByName, creations, visiting, executor);
+        }
+        try {
+            CompletableFuture.allOf(creations.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException that) {
+                throw that;
+            }
+            if (cause instanceof Error that) {
+                throw that;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Void> scheduleCreation(
+            BeanDefinition beanDefinition,
+            Map<String, BeanDefinition> beanDefinitionsByName,
+            Map<String, CompletableFuture<Void>> creations,
+            Set<String> visiting,
+            Executor executor
+    ) {
+        final String beanName = beanDefinition.getName();
+        CompletableFuture<Void> creation = creations.get(beanName);
+        if (creation != null) {
+            return creation;
+        }
+        if (!visiting.add(beanName)) {
+            // 构造器循环依赖，交由创建时的循环依赖检查处理
+            return null;
+        }
+        final List<CompletableFuture<Void>> dependencies = new ArrayList<>(8);
+        for (final String dependencyName : resolveDependencyNames(beanDefinition)) {
+            final BeanDefinition dependency = beanDefinitionsByName.get(dependencyName);
+            if (dependency == null || dependencyName.equals(beanName)) {
+                continue;
+            }
+            final CompletableFuture<Void> dependencyCreation =
+                    scheduleCreation(dependency, beanDefinitionsByName, creations, visiting, executor);
+            if (dependencyCreation != null) {
+                dependencies.add(dependencyCreation);
+            }
         }
+        visiting.remove(beanName);
+        creation = CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+                .thenRunAsync(() -> getOrCreateBeanWithLock(beanDefinition, true), executor);
+        creations.put(beanName, creation);
+        return creation;
     }
 
     private boolean isReady(String beanName) {
@@ -77,24 +334,93 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
         return !isReady(beanName);
     }
 
-    private boolean isCurrentlyCreating(String beanName) {
-        return currentlyInCreationBeans.containsKey(beanName);
+    /**
+     * @param beanName bean 名称
+     * @return 当前线程是否正在创建该 bean
+     */
+    protected final boolean isCurrentlyCreating(@NotNull String beanName) {
+        return currentlyInCreationBeans.get().containsKey(beanName);
+    }
+
+    /**
+     * @param beanName bean 名称
+     * @return 该单例是否已完成创建与初始化，异步初始化可能仍在进行
+     * @see #isSingletonInitializing(String)
+     */
+    protected final boolean isSingletonInitialized(@NotNull String beanName) {
+        return initializedSingletons.containsKey(beanName);
+    }
+
+    /**
+     * @param beanName bean 名称
+     * @return 该单例的异步初始化是否尚未完成
+     */
+    protected final boolean isSingletonInitializing(@NotNull String beanName) {
+        if (initializingSingletons.isEmpty()) {
+            return false;
+        }
+        final CompletableFuture<Void> initialization = initializingSingletons.get(beanName);
+        return initialization != null && !initialization.isDone();
     }
 
     protected abstract void destroyBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject);
 
     @Override
     protected void doClear() {
-        final Map<String, Object> singletons = beanObjectRegistry.getSingletons();
-        if (!singletons.isEmpty()) {
-            singletons.forEach((beanName, singleton) -> {
-                final BeanDefinition beanDefinition = beanDefinitionRegistry.getBeanDefinition(beanName);
-                assert beanDefinition != null;
-                destroyBean(beanDefinition, singleton);
-            });
+        final SingletonDestroyer singletonDestroyer = collectCreatedSingletons();
+        initializedSingletons.clear();
+        initializingSingletons.clear();
+        for (final BeanPool beanPool : beanPools.values()) {
+            destroyPooledBeans(beanPool, beanPool.drain());
+        }
+        beanPools.clear();
+        for (final TaskScope taskScope : openTaskScopes) {
+            destroyScopedBeans(taskScope.getScopedBeans());
+        }
+        openTaskScopes.clear();
+        for (final ScopedBeans scopedBeans : threadScopedBeans.values()) {
+            destroyScopedBeans(scopedBeans);
+        }
+        threadScopedBeans.clear();
+        beanScopes.clear();
+        if (!singletonDestroyer.isEmpty()) {
+            singletonDestroyer.resolveDependencies(beanDefinition -> isProvidedBean(beanDefinition.getName())
+                    ? Collections.emptyList()
+                    : resolveDependencyNames(beanDefinition));
+            this.shutdownReport = singletonDestroyer.destroy(this::destroyBean,
+                    shutdownExecutor, destroyTimeoutNanos, shutdownTimeoutNanos);
         }
         beanDefinitionRegistry.clear();
         beanObjectRegistry.clear();
+        creationLocks.clear();
+        super.doClear();
+    }
+
+    /**
+     * 只收集已创建的单例，尚未创建的懒加载单例不会为了销毁而被创建
+     */
+    private SingletonDestroyer collectCreatedSingletons() {
+        final SingletonDestroyer singletonDestroyer = new SingletonDestroyer();
+        InitializedSingleton initializedSingleton;
+        Object singleton;
+        for (final BeanDefinition beanDefinition : beanDefinitionRegistry.getBeanDefinitions()) {
+            if (!beanDefinition.isSingleton()) {
+                continue;
+            }
+            final String beanName = beanDefinition.getName();
+            initializedSingleton = initializedSingletons.get(beanName);
+            if (initializedSingleton != null) {
+                singleton = initializedSingleton.beanObject;
+            } else if (!beanDefinition.isLazy() || isProvidedBean(beanName)) {
+                singleton = beanObjectRegistry.getSingleton(beanName);
+            } else {
+                continue;
+            }
+            if (singleton != null) {
+                singletonDestroyer.add(beanDefinition, singleton);
+            }
+        }
+        return singletonDestroyer;
     }
 
     @NotNull
@@ -106,13 +432,245 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
     @NotNull
     protected abstract ObjectFactory<?> createPrototypeFactory(@NotNull BeanDefinition beanDefinition);
 
-    private void doCreateBean(BeanDefinition beanDefinition) {
+    /**
+     * @param beanDefinition 原型 bean 定义
+     * @return 该 bean 的实例池，不需要池化时返回 null
+     */
+    @Nullable
+    protected abstract BeanPool createBeanPool(@NotNull BeanDefinition beanDefinition);
+
+    /**
+     * 重置池化 bean 的实例，在实例归还至池中前调用
+     *
+     * @param beanDefinition bean 定义
+     * @param beanObject     归还的实例
+     */
+    protected abstract void resetBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject);
+
+    /**
+     * 归还一个借出的池化原型 bean 实例<br>
+     * 实例将被重置后放回池中，池已满或重置失败时将被销毁
+     *
+     * @param beanName   bean 名称
+     * @param beanObject 通过 {@code getBean} 等方法借出的实例
+     * @return 该 bean 不是池化 bean 时返回 false
+     * @throws IllegalArgumentException 实例不是该 bean 的类型，或者已经归还且尚未再次借出
+     */
+    public boolean releaseBean(@NotNull String beanName, @NotNull Object beanObject) {
+        Asserts.hasText(beanName, "beanName");
+        Asserts.notNull(beanObject, "beanObject");
+        final BeanPool beanPool = beanPools.get(beanName);
+        if (beanPool == null) {
+            return false;
+        }
+        final BeanDefinition beanDefinition = beanPool.getBeanDefinition();
+        Asserts.isTrue(beanDefinition.getTypeReference().isAssignableFrom(beanObject.getClass()),
+                "beanObject is not an instance of " + beanDefinition.getTypeReference().getReferenceType());
+        // 在重置前拒绝重复归还，避免重置或销毁池中的空闲实例，release 中会在持锁时再次检查
+        Asserts.isTrue(!beanPool.isIdle(beanObject), "beanObject has already been released");
+        try {
+            resetBean(beanDefinition, beanObject);
+        } catch (RuntimeException e) {
+            destroyBean(beanDefinition, beanObject);
+            throw e;
+        }
+        if (!beanPool.release(beanObject)) {
+            destroyBean(beanDefinition, beanObject);
+        }
+        destroyPooledBeans(beanPool, beanPool.evictExpired());
+        return true;
+    }
+
+    /**
+     * 驱逐并销毁所有池中超时的空闲实例以及已终止线程的线程作用域实例，可由调度器定期调用
+     */
+    public void evictIdleBeans() {
+        for (final BeanPool beanPool : beanPools.values()) {
+            destroyPooledBeans(beanPool, beanPool.evictExpired());
+        }
+        destroyTerminatedThreadScopes();
+    }
+
+    /**
+     * @param beanDefinition 原型 bean 定义
+     * @return 该 bean 的作用域，不是作用域 bean 时返回 null
+     */
+    @Nullable
+    protected abstract Scoped.Type resolveBeanScope(@NotNull BeanDefinition beanDefinition);
+
+    /**
+     * 开启一个任务作用域并绑定至当前线程，关闭后恢复当前线程之前绑定的任务作用域<br>
+     * 应在同一线程中通过 try-with-resources 关闭
+     *
+     * @return 任务作用域
+     */
+    @NotNull
+    public TaskScope openTaskScope() {
+        final TaskScope taskScope = new TaskScope(this, currentTaskScope.get());
+        openTaskScopes.add(taskScope);
+        currentTaskScope.set(taskScope);
+        return taskScope;
+    }
+
+    /**
+     * @return 当前线程绑定的任务作用域
+     */
+    @Nullable
+    public TaskScope getCurrentTaskScope() {
+        return currentTaskScope.get();
+    }
+
+    /**
+     * 结束当前线程的线程作用域并销毁其中的实例，之后再获取线程作用域 bean 将创建新的实例<br>
+     * 适用于长期存活的工作线程在一批任务结束后主动释放实例，终止的线程无需调用
+     */
+    public void endThreadScope() {
+        final ScopedBeans scopedBeans = threadScopedBeans.remove(Thread.currentThread());
+        if (scopedBeans != null) {
+            destroyScopedBeans(scopedBeans);
+        }
+    }
+
+    /**
+     * @param taskScope 任务作用域，为 null 时解除绑定
+     * @return 之前绑定的任务作用域
+     */
+    @Nullable
+    TaskScope bindTaskScope(@Nullable TaskScope taskScope) {
+        final TaskScope bound = currentTaskScope.get();
+        if (taskScope == null) {
+            currentTaskScope.remove();
+        } else {
+            currentTaskScope.set(taskScope);
+        }
+        return bound;
+    }
+
+    void closeTaskScope(@NotNull TaskScope taskScope) {
+        if (currentTaskScope.get() == taskScope) {
+            bindTaskScope(taskScope.getPrevious());
+        }
+        if (openTaskScopes.remove(taskScope)) {
+            destroyScopedBeans(taskScope.getScopedBeans());
+        }
+    }
+
+    @Nullable
+    private ScopedBeans getScopedBeans(Scoped.Type beanScope, boolean create) {
+        if (beanScope == Scoped.Type.TASK) {
+            final TaskScope taskScope = currentTaskScope.get();
+            if (taskScope == null) {
+                if (create) {
+                    throw new IllegalStateException("no task scope is bound to the current thread");
+                }
+                return null;
+            }
+            return taskScope.getScopedBeans();
+        }
+        final Thread thread = Thread.currentThread();
+        ScopedBeans scopedBeans = threadScopedBeans.get(thread);
+        if (scopedBeans == null && create) {
+            scopedBeans = new ScopedBeans();
+            threadScopedBeans.put(thread, scopedBeans);
+            if (threadScopedBeans.size() >= threadScopeSweepThreshold) {
+                destroyTerminatedThreadScopes();
+            }
+        }
+        return scopedBeans;
+    }
+
+    /**
+     * @return 当前作用域内已存在的作用域 bean，不存在时返回 null
+     */
+    @Nullable
+    private ScopedBeans.ScopedBean getScopedBeanIfPresent(String beanName) {
+        final Scoped.Type beanScope = beanScopes.get(beanName);
+        if (beanScope == null) {
+            return null;
+        }
+        final ScopedBeans scopedBeans = getScopedBeans(beanScope, false);
+        return scopedBeans == null ? null : scopedBeans.get(beanName);
+    }
+
+    private Object getScopedBean(BeanDefinition beanDefinition, Scoped.Type beanScope) {
+        final String beanName = beanDefinition.getName();
+        final ScopedBeans scopedBeans = getScopedBeans(beanScope, true);
+        assert scopedBeans != null;
+        final ScopedBeans.ScopedBean scopedBean = scopedBeans.get(beanName);
+        if (scopedBean != null) {
+            return scopedBean.beanObject;
+        }
+        final Object beanObject = createPrototype(beanDefinition);
+        if (beanObject == null) {
+            return null;
+        }
+        final Object existing = scopedBeans.putIfAbsent(beanDefinition, beanObject);
+        if (existing != beanObject) {
+            destroyBean(beanDefinition, beanObject);
+            if (existing == null) {
+                throw new IllegalStateException("[beanName: " + beanName + "] scope has ended");
+            }
+        }
+        return existing;
+    }
+
+    @Nullable
+    private Object createPrototype(BeanDefinition beanDefinition) {
         final String beanName = beanDefinition.getName();
         if (isCurrentlyCreating(beanName)) {
             throw new CircularDependencyException(beanDefinition, null);
         }
-        currentlyInCreationBeans.put(beanName, beanDefinition);
+        final StartupStep step = startStep(StartupPhase.CREATION, beanName, beanDefinition.getType(), null);
+        currentlyInCreationBeans.get().put(beanName, beanDefinition);
+        try {
+            final Object beanObject = beanObjectRegistry.getPrototype(beanName);
+            if (beanObject == null) {
+                return null;
+            }
+            return initializeBean(beanDefinition, beanObject);
+        } finally {
+            currentlyInCreationBeans.get().remove(beanName);
+            step.end();
+        }
+    }
+
+    private void destroyTerminatedThreadScopes() {
+        final Iterator<Map.Entry<Thread, ScopedBeans>> iterator = threadScopedBeans.entrySet().iterator();
+        Map.Entry<Thread, ScopedBeans> entry;
+        while (iterator.hasNext()) {
+            entry = iterator.next();
+            if (!entry.getKey().isAlive()) {
+                iterator.remove();
+                destroyScopedBeans(entry.getValue());
+            }
+        }
+        threadScopeSweepThreshold = Math.max(THREAD_SCOPE_SWEEP_THRESHOLD, threadScopedBeans.size() * 2);
+    }
+
+    private void destroyScopedBeans(ScopedBeans scopedBeans) {
+        for (final ScopedBeans.ScopedBean scopedBean : scopedBeans.end()) {
+            destroyBean(scopedBean.beanDefinition, scopedBean.beanObject);
+        }
+    }
 
+    @Nullable
+    private Object borrowPooledBean(BeanPool beanPool) {
+        destroyPooledBeans(beanPool, beanPool.evictExpired());
+        return beanPool.borrow();
+    }
+
+    private void destroyPooledBeans(BeanPool beanPool, List<Object> beanObjects) {
+        if (beanObjects.isEmpty()) {
+            return;
+        }
+        final BeanDefinition beanDefinition = beanPool.getBeanDefinition();
+        for (final Object beanObject : beanObjects) {
+            destroyBean(beanDefinition, beanObject);
+        }
+    }
+
+    private void doCreateBean(BeanDefinition beanDefinition) {
+        final String beanName = beanDefinition.getName();
         if (beanDefinition.isLazy() || !beanDefinition.isSingleton()) {
             doCreateObjectFactory(beanDefinition);
             return;
@@ -140,6 +698,15 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
         } else {
             objectFactory = createPrototypeFactory(beanDefinition);
             Asserts.notNull(objectFactory, "prototypeFactory");
+            final Scoped.Type beanScope = resolveBeanScope(beanDefinition);
+            if (beanScope != null) {
+                beanScopes.put(beanDefinition.getName(), beanScope);
+            } else {
+                final BeanPool beanPool = createBeanPool(beanDefinition);
+                if (beanPool != null) {
+                    beanPools.put(beanDefinition.getName(), beanPool);
+                }
+            }
         }
         // @formatter:off
 //        final Type genericParent = ClassUtils.findGenericParent(objectFactory.getClass(), BeanFactory.class);
@@ -173,14 +740,74 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
         Object beanObject;
         final boolean isSingleton = beanDefinition.isSingleton();
         if (isSingleton) {
+            final InitializedSingleton initializedSingleton = initializedSingletons.get(beanName);
+            if (initializedSingleton != null) {
+                return initializedSingleton.beanObject;
+            }
+            if (beanDefinition.isLazy()) {
+                return createLazySingleton(beanDefinition);
+            }
             beanObject = beanObjectRegistry.getSingleton(beanName);
         } else {
-            beanObject = beanObjectRegistry.getPrototype(beanName);
+            final Scoped.Type beanScope = beanScopes.get(beanName);
+            if (beanScope != null) {
+                return getScopedBean(beanDefinition, beanScope);
+            }
+            final BeanPool beanPool = beanPools.get(beanName);
+            if (beanPool != null && (beanObject = borrowPooledBean(beanPool)) != null) {
+                return beanObject;
+            }
+            return createPrototype(beanDefinition);
         }
-        if (beanObject != null && (!isSingleton || beanDefinition.isLazy())) {
-            return initializeBean(beanDefinition, beanObject);
+        if (beanObject == null) {
+            return null;
         }
-        return beanObject;
+        return publishSingleton(beanDefinition, beanObject);
+    }
+
+    /**
+     * 懒加载单例由单例工厂实例化后再初始化，期间与 {@link #getOrCreateBean(BeanDefinition, boolean)} 一样记录与检查循环依赖
+     */
+    @Nullable
+    private Object createLazySingleton(BeanDefinition beanDefinition) {
+        final String beanName = beanDefinition.getName();
+        if (isCurrentlyCreating(beanName)) {
+            final Object earlyObject = earlyObjects.get(beanName);
+            if (earlyObject != null) {
+                // 字段或方法注入的循环依赖，返回已实例化但尚未初始化完成的早期实例
+                return earlyObject;
+            }
+            throw new CircularDependencyException(beanDefinition, null);
+        }
+        currentlyInCreationBeans.get().put(beanName, beanDefinition);
+        Object beanObject;
+        try {
+            beanObject = beanObjectRegistry.getSingleton(beanName);
+            if (beanObject == null) {
+                return null;
+            }
+            earlyObjects.put(beanName, beanObject);
+            final StartupStep step = startStep(StartupPhase.CREATION, beanName, beanDefinition.getType(), null);
+            try {
+                beanObject = initializeBean(beanDefinition, beanObject);
+            } finally {
+                step.end();
+            }
+        } finally {
+            earlyObjects.remove(beanName);
+            currentlyInCreationBeans.get().remove(beanName);
+        }
+        return publishSingleton(beanDefinition, beanObject);
+    }
+
+    /**
+     * @return 最终发布的实例，已有其他线程发布时返回其发布的实例
+     */
+    private Object publishSingleton(BeanDefinition beanDefinition, Object beanObject) {
+        final InitializedSingleton previous = initializedSingletons.putIfAbsent(beanDefinition.getName(),
+                new InitializedSingleton(beanDefinition, beanObject,
+                        initializingSingletons.isEmpty() ? null : initializingSingletons.get(beanDefinition.getName())));
+        return previous == null ? beanObject : previous.beanObject;
     }
 
     @SuppressWarnings({"unchecked","rawtypes"})
@@ -194,36 +821,127 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
         }
 
         Object earlyObject = earlyObjects.get(beanName);
-        if (earlyObject == null) {
-            try {
-                doCreateBean(beanDefinition);
-                if (isReady(beanName)) {
-                    if (onlyCreate) {
-                        return null;
+        if (earlyObject != null && isCurrentlyCreating(beanName)) {
+            // 字段或方法注入的循环依赖，返回已实例化但尚未初始化完成的早期实例
+            return onlyCreate ? null : earlyObject;
+        }
+        boolean creating = false;
+        // 懒加载单例与原型 bean 在此只注册对象工厂，其创建在 doGetBean 中记录
+        final StartupStep step = beanDefinition.isSingleton() && !beanDefinition.isLazy()
+                ? startStep(StartupPhase.CREATION, beanName, beanDefinition.getType(), null)
+                : null;
+        try {
+            if (earlyObject == null) {
+                try {
+                    if (isCurrentlyCreating(beanName)) {
+                        throw new CircularDependencyException(beanDefinition, null);
                     }
-                    return doGetBean(beanDefinition);
+                    currentlyInCreationBeans.get().put(beanName, beanDefinition);
+                    creating = true;
+                    doCreateBean(beanDefinition);
+                    if (isReady(beanName)) {
+                        if (onlyCreate) {
+                            return null;
+                        }
+                        if (!beanDefinition.isSingleton() || beanDefinition.isLazy()) {
+                            // 只注册了对象工厂，实例的创建由 createPrototype 或 createLazySingleton 记录与检查
+                            currentlyInCreationBeans.get().remove(beanName);
+                            creating = false;
+                        }
+                        return doGetBean(beanDefinition);
+                    }
+                    earlyObject = earlyObjects.get(beanName);
+                    Asserts.notNull(earlyObject, "earlyObject");
+                } catch (Exception e) {
+                    throw new BeanCreationException(beanDefinition, null, e);
                 }
-                earlyObject = earlyObjects.get(beanName);
-                Asserts.notNull(earlyObject, "earlyObject");
-            } catch (Exception e) {
-                throw new BeanCreationException(beanDefinition, null, e);
             }
+            earlyObject = initializeBean(beanDefinition, earlyObject);
+            beanObjectRegistry.registerSingleton(beanName,
+                    (TypeReference) beanDefinition.getTypeReference(), earlyObject);
+            earlyObjects.remove(beanName);
+            return publishSingleton(beanDefinition, earlyObject);
+        } finally {
+            if (creating) {
+                currentlyInCreationBeans.get().remove(beanName);
+            }
+            if (step != null) {
+                step.end();
+            }
+        }
+    }
+
+    @Nullable
+    private Object getOrCreateBeanWithLock(BeanDefinition beanDefinition) {
+        if (!beanDefinition.isSingleton() && isReady(beanDefinition.getName())) {
+            // 原型工厂注册后各线程可以同时创建实例
+            return doGetBean(beanDefinition);
         }
-        earlyObject = initializeBean(beanDefinition, earlyObject);
-        beanObjectRegistry.registerSingleton(beanName,
-                (TypeReference) beanDefinition.getTypeReference(), earlyObject);
-        earlyObjects.remove(beanName);
+        final Object beanObject = getOrCreateBeanWithLock(beanDefinition, false);
+        if (beanObject != null) {
+            awaitInitialization(beanDefinition);
+        }
+        return beanObject;
+    }
 
-        if (!currentlyInCreationBeans.isEmpty()) {
-            currentlyInCreationBeans.clear();
+    /**
+     * 只持有该 bean 的创建锁，其依赖在创建时各自加锁，其他线程只有需要同一个 bean 时才会等待
+     */
+    @Nullable
+    private Object getOrCreateBeanWithLock(BeanDefinition beanDefinition, boolean onlyCreate) {
+        final String beanName = beanDefinition.getName();
+        final StartupTimeline startupTimeline = getStartupTimeline();
+        final long waitStart = startupTimeline == null ? 0L : System.nanoTime();
+        final BeanCreationLocks.CreationLock creationLock = creationLocks.lock(beanName);
+        if (creationLock == null) {
+            // 持有者正在初始化该 bean 并等待当前线程，与单线程时一样返回早期实例
+            final Object earlyObject = earlyObjects.get(beanName);
+            if (earlyObject != null) {
+                return onlyCreate ? null : earlyObject;
+            }
+            throw new CircularDependencyException(beanDefinition,
+                    "circular dependency between threads while waiting for " + beanName);
         }
-        return earlyObject;
+        try {
+            if (startupTimeline != null) {
+                startupTimeline.recordWait(System.nanoTime() - waitStart);
+            }
+            if (beanDefinitionRegistry.getBeanDefinition(beanName) != beanDefinition) {
+                return null;
+            }
+            if (beanDefinition.isSingleton()) {
+                // 等待锁期间其他线程可能已完成初始化并发布，不能再次初始化
+                final InitializedSingleton initializedSingleton = initializedSingletons.get(beanName);
+                if (initializedSingleton != null) {
+                    return onlyCreate ? null : initializedSingleton.beanObject;
+                }
+            }
+            return getOrCreateBean(beanDefinition, onlyCreate);
+        } finally {
+            creationLocks.unlock(creationLock);
+        }
+    }
+
+    /**
+     * 持有锁重建，使最后一次重建总能看到之前所有的添加与移除
+     */
+    @Override
+    protected synchronized void beanPostProcessorsChanged() {
+        this.beanPostProcessorIndex = new BeanPostProcessorIndex(beanPostProcessors);
     }
 
     protected abstract void invokeAwareMethod(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject);
 
     protected abstract void initBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject);
 
+    /**
+     * 调用 bean 的异步初始化方法，原型 bean 的异步初始化总会在返回前完成
+     *
+     * @return 异步初始化完成时完成的 future，已同步完成时返回 null
+     */
+    @Nullable
+    protected abstract CompletableFuture<Void> initBeanAsync(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject);
+
     protected abstract void populateBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject);
 
     @NotNull
@@ -234,22 +952,57 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
             final String beanName = beanDefinition.getName();
             final TypeReference<?> beanTypeReference = beanDefinition.getTypeReference();
 
+            final Class<?> beanType = beanDefinition.getType();
+            StartupStep step;
+
+            Object processedObject;
+
+            populateBean(beanDefinition, beanObject);
+
+            final BeanPostProcessor[] beanPostProcessors = beanPostProcessorIndex.get(beanType);
+            final boolean recordPostProcessing = beanPostProcessors.length != 0
+                    && isRecording(StartupPhase.POST_PROCESSING);
             for (final BeanPostProcessor beanPostProcessor : beanPostProcessors) {
-                beanObject = beanPostProcessor.postProcessBeforeInitialization(beanName, beanObject);
-                Asserts.notNull(beanObject, "beanObject");
-                verifyType(beanTypeReference, beanObject.getClass());
+                step = startStep(StartupPhase.POST_PROCESSING, beanName, beanType, recordPostProcessing
+                        ? beanPostProcessor.getClass().getName() + "#postProcessBeforeInitialization" : null);
+                try {
+                    processedObject = beanPostProcessor.postProcessBeforeInitialization(beanName, beanObject);
+                } finally {
+                    step.end();
+                }
+                if (processedObject != beanObject) {
+                    Asserts.notNull(processedObject, "beanObject");
+                    verifyType(beanTypeReference, processedObject.getClass());
+                    beanObject = processedObject;
+                }
             }
 
             invokeAwareMethod(beanDefinition, beanObject);
 
-            initBean(beanDefinition, beanObject);
-
-            populateBean(beanDefinition, beanObject);
+            step = startStep(StartupPhase.INITIALIZATION, beanName, beanType, null);
+            try {
+                initBean(beanDefinition, beanObject);
+                final CompletableFuture<Void> initialization = initBeanAsync(beanDefinition, beanObject);
+                if (initialization != null) {
+                    trackInitialization(beanDefinition, initialization);
+                }
+            } finally {
+                step.end();
+            }
 
             for (final BeanPostProcessor beanPostProcessor : beanPostProcessors) {
-                beanObject = beanPostProcessor.postProcessAfterInitialization(beanName, beanObject);
-                Asserts.notNull(beanObject, "beanObject");
-                verifyType(beanTypeReference, beanObject.getClass());
+                step = startStep(StartupPhase.POST_PROCESSING, beanName, beanType, recordPostProcessing
+                        ? beanPostProcessor.getClass().getName() + "#postProcessAfterInitialization" : null);
+                try {
+                    processedObject = beanPostProcessor.postProcessAfterInitialization(beanName, beanObject);
+                } finally {
+                    step.end();
+                }
+                if (processedObject != beanObject) {
+                    Asserts.notNull(processedObject, "beanObject");
+                    verifyType(beanTypeReference, processedObject.getClass());
+                    beanObject = processedObject;
+                }
             }
             return beanObject;
         } catch (Exception e) {
@@ -257,6 +1010,45 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
         }
     }
 
+    private void trackInitialization(BeanDefinition beanDefinition, CompletableFuture<Void> initialization) {
+        if (!beanDefinition.isSingleton()) {
+            initialization.join();
+            return;
+        }
+        final String beanName = beanDefinition.getName();
+        initializingSingletons.put(beanName, initialization);
+        initialization.whenComplete((result, e) -> {
+            if (e == null) {
+                initializingSingletons.remove(beanName, initialization);
+            }
+        });
+    }
+
+    /**
+     * 获取异步初始化尚未完成的单例时等待其完成，注入至其他 bean 时同样等待，依赖方不会得到未初始化完成的实例<br>
+     * 启用延迟代理时注入的是代理，只有首次调用代理时才会等待
+     */
+    private void awaitInitialization(BeanDefinition beanDefinition, CompletableFuture<Void> initialization) {
+        if (initialization.isDone() && !initialization.isCompletedExceptionally()) {
+            return;
+        }
+        try {
+            initialization.join();
+        } catch (CompletionException e) {
+            throw new BeanInitializationException(beanDefinition, null, e.getCause());
+        }
+    }
+
+    private void awaitInitialization(BeanDefinition beanDefinition) {
+        if (initializingSingletons.isEmpty()) {
+            return;
+        }
+        final CompletableFuture<Void> initialization = initializingSingletons.get(beanDefinition.getName());
+        if (initialization != null) {
+            awaitInitialization(beanDefinition, initialization);
+        }
+    }
+
     private void verifyType(TypeReference<?> beanType, Type type) {
         if (!beanType.isAssignableFrom(type)) {
             throw new IllegalStateException("[beanType: " + beanType.getReferenceType().getTypeName() +
@@ -269,16 +1061,28 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
     @SuppressWarnings({"unchecked"})
     public <T> T getBean(@NotNull String beanName) {
         Asserts.hasText(beanName, "beanName");
-        try {
-            globalLock.lock();
-            final BeanDefinition beanDefinition = beanDefinitionRegistry.getBeanDefinition(beanName);
-            if (beanDefinition == null) {
-                return null;
+        final InitializedSingleton initializedSingleton = initializedSingletons.get(beanName);
+        if (initializedSingleton != null) {
+            if (initializedSingleton.initialization != null) {
+                awaitInitialization(initializedSingleton.beanDefinition, initializedSingleton.initialization);
             }
-            return (T) getOrCreateBean(beanDefinition, false);
-        } finally {
-            globalLock.unlock();
+            return (T) initializedSingleton.beanObject;
         }
+        final ScopedBeans.ScopedBean scopedBean = getScopedBeanIfPresent(beanName);
+        if (scopedBean != null) {
+            return (T) scopedBean.beanObject;
+        }
+        final BeanPool beanPool = beanPools.get(beanName);
+        final Object pooledBean;
+        if (beanPool != null && (pooledBean = borrowPooledBean(beanPool)) != null) {
+            return (T) pooledBean;
+        }
+        final BeanDefinition beanDefinition = beanDefinitionRegistry.getBeanDefinition(beanName);
+        if (beanDefinition == null) {
+            final BeanFactory parentBeanFactory = this.parentBeanFactory;
+            return parentBeanFactory == null ? null : parentBeanFactory.getBean(beanName);
+        }
+        return (T) getOrCreateBeanWithLock(beanDefinition);
     }
 
     @Nullable
@@ -320,20 +1124,39 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
     public <T> T getBean(@NotNull String beanName, @NotNull TypeReference<T> beanTypeReference) {
         Asserts.hasText(beanName, "beanName");
         Asserts.notNull(beanTypeReference, "beanTypeReference");
-        try {
-            globalLock.lock();
-            final BeanDefinition beanDefinition = beanDefinitionRegistry.getBeanDefinition(beanName);
-            if (beanDefinition == null ||
-                    !beanTypeReference.isAssignableFrom(beanDefinition.getTypeReference().getReferenceType())
-            ) {
+        final InitializedSingleton initializedSingleton = initializedSingletons.get(beanName);
+        if (initializedSingleton != null) {
+            if (!initializedSingleton.isAssignableTo(beanTypeReference)) {
                 return null;
             }
-            try {
-                return (T) getOrCreateBean(beanDefinition, false);
-            } catch (ClassCastException ignored) {}
-        } finally {
-            globalLock.unlock();
+            if (initializedSingleton.initialization != null) {
+                awaitInitialization(initializedSingleton.beanDefinition, initializedSingleton.initialization);
+            }
+            return (T) initializedSingleton.beanObject;
+        }
+        final ScopedBeans.ScopedBean scopedBean = getScopedBeanIfPresent(beanName);
+        if (scopedBean != null) {
+            return scopedBean.isAssignableTo(beanTypeReference) ? (T) scopedBean.beanObject : null;
+        }
+        final BeanPool beanPool = beanPools.get(beanName);
+        final Object pooledBean;
+        if (beanPool != null &&
+                beanTypeReference.isAssignableFrom(beanPool.getBeanDefinition().getTypeReference().getReferenceType()) &&
+                (pooledBean = borrowPooledBean(beanPool)) != null
+        ) {
+            return (T) pooledBean;
         }
+        final BeanDefinition beanDefinition = beanDefinitionRegistry.getBeanDefinition(beanName);
+        if (beanDefinition == null) {
+            final BeanFactory parentBeanFactory = this.parentBeanFactory;
+            return parentBeanFactory == null ? null : parentBeanFactory.getBean(beanName, beanTypeReference);
+        }
+        if (!beanTypeReference.isAssignableFrom(beanDefinition.getTypeReference().getReferenceType())) {
+            return null;
+        }
+        try {
+            return (T) getOrCreateBeanWithLock(beanDefinition);
+        } catch (ClassCastException ignored) {}
         return null;
     }
 
@@ -350,23 +1173,88 @@ public abstract class AbstractCreatableBeanFactory extends AbstractRegistrableBe
     @SuppressWarnings({"unchecked"})
     public <T> Map<String, T> getBeans(@NotNull TypeReference<T> beanTypeReference) {
         Asserts.notNull(beanTypeReference, "beanTypeReference");
-        try {
-            globalLock.lock();
-            final Type beanReferenceType = beanTypeReference.getReferenceType();
-            final List<BeanDefinition> beanDefinitions =
-                    beanDefinitionRegistry.getBeanDefinitions(beanReferenceType);
-            if (beanDefinitions.isEmpty()) {
-                return Collections.emptyMap();
-            }
-            final Map<String, T> result = new HashMap<>(32);
-            for (final BeanDefinition beanDefinition : beanDefinitions) {
-                try {
-                    result.put(beanDefinition.getName(), (T) getOrCreateBean(beanDefinition, false));
-                } catch (ClassCastException ignored) {}
+        final Type beanReferenceType = beanTypeReference.getReferenceType();
+        final List<BeanDefinition> beanDefinitions =
+                beanDefinitionRegistry.getBeanDefinitions(beanReferenceType);
+        final Map<String, T> parentBeans = getParentBeans(beanTypeReference);
+        if (beanDefinitions.isEmpty()) {
+            return parentBeans;
+        }
+        final Map<String, T> result = new HashMap<>(32);
+        result.putAll(parentBeans);
+        List<BeanDefinition> uninitializedBeanDefinitions = null;
+        InitializedSingleton initializedSingleton;
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            initializedSingleton = initializedSingletons.get(beanDefinition.getName());
+            if (initializedSingleton != null) {
+                if (initializedSingleton.initialization != null) {
+                    awaitInitialization(beanDefinition, initializedSingleton.initialization);
+                }
+                result.put(beanDefinition.getName(), (T) initializedSingleton.beanObject);
+                continue;
             }
+            if (uninitializedBeanDefinitions == null) {
+                uninitializedBeanDefinitions = new ArrayList<>(beanDefinitions.size());
+            }
+            uninitializedBeanDefinitions.add(beanDefinition);
+        }
+        if (uninitializedBeanDefinitions == null) {
             return result;
-        } finally {
-            globalLock.unlock();
+        }
+        Object beanObject;
+        for (final BeanDefinition beanDefinition : uninitializedBeanDefinitions) {
+            try {
+                beanObject = getOrCreateBeanWithLock(beanDefinition);
+                if (beanObject != null) {
+                    result.put(beanDefinition.getName(), (T) beanObject);
+                }
+            } catch (ClassCastException ignored) {}
+        }
+        return result;
+    }
+
+    /**
+     * @return 父工厂中未被当前工厂同名 bean 遮蔽的 bean
+     */
+    private <T> Map<String, T> getParentBeans(TypeReference<T> beanTypeReference) {
+        final BeanFactory parentBeanFactory = this.parentBeanFactory;
+        if (parentBeanFactory == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, T> parentBeans = parentBeanFactory.getBeans(beanTypeReference);
+        if (parentBeans.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, T> result = new HashMap<>(parentBeans.size() * 2);
+        for (final Map.Entry<String, T> entry : parentBeans.entrySet()) {
+            if (!beanDefinitionRegistry.containsBeanDefinition(entry.getKey())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static final class InitializedSingleton {
+
+        private final BeanDefinition beanDefinition;
+        private final Object beanObject;
+        /**
+         * 发布时尚未完成的异步初始化，反之则为 null
+         */
+        private final CompletableFuture<Void> initialization;
+
+        private InitializedSingleton(
+                @NotNull BeanDefinition beanDefinition,
+                @NotNull Object beanObject,
+                @Nullable CompletableFuture<Void> initialization
+        ) {
+            this.beanDefinition = beanDefinition;
+            this.beanObject = beanObject;
+            this.initialization = initialization;
+        }
+
+        private boolean isAssignableTo(@NotNull TypeReference<?> beanTypeReference) {
+            return beanTypeReference.isAssignableFrom(beanDefinition.getTypeReference().getReferenceType());
         }
     }
 }
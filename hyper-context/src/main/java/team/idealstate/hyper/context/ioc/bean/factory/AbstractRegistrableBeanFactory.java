@@ -17,14 +17,25 @@
 package team.idealstate.hyper.context.ioc.bean.factory;
 
 import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
 import team.idealstate.hyper.commons.asserts.Asserts;
 import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.able.Freezable;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinitionDefiner;
 import team.idealstate.hyper.context.ioc.bean.registry.BeanDefinitionRegistry;
 import team.idealstate.hyper.context.ioc.bean.registry.BeanObjectRegistry;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupPhase;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupStep;
+import team.idealstate.hyper.context.ioc.bean.startup.StartupTimeline;
 import team.idealstate.hyper.context.ioc.exception.NameAlreadyBoundException;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
 /**
  * <p>AbstractRegistrableBeanFactory</p>
  *
@@ -33,10 +44,20 @@ import team.idealstate.hyper.context.ioc.exception.NameAlreadyBoundException;
  * @author ketikai
  * @since 1.0.0
  */
-public abstract class AbstractRegistrableBeanFactory extends AbstractStatusBeanFactory implements RegistrableBeanFactory {
+public abstract class AbstractRegistrableBeanFactory extends AbstractStatusBeanFactory implements RegistrableBeanFactory, Freezable {
+
+    /**
+     * 批量定义的 bean 数量达到该值时并行定义
+     */
+    private static final int PARALLEL_DEFINITION_THRESHOLD = 256;
 
     protected final BeanDefinitionRegistry beanDefinitionRegistry;
     protected final BeanObjectRegistry beanObjectRegistry;
+    private volatile StartupTimeline startupTimeline;
+    /**
+     * 注册时直接提供了实例的 bean，它们无法从 bean 定义重新创建
+     */
+    private final Set<String> providedBeanNames = ConcurrentHashMap.newKeySet(16);
 
     protected AbstractRegistrableBeanFactory(
             @NotNull BeanDefinitionDefiner beanDefinitionDefiner,
@@ -51,6 +72,102 @@ public abstract class AbstractRegistrableBeanFactory extends AbstractStatusBeanF
         this.beanObjectRegistry = beanObjectRegistry;
     }
 
+    /**
+     * 设置用于记录 bean 定义与创建耗时的时间线<br>
+     * 为 null 时（默认）只在开启了 JFR 记录时提交事件
+     *
+     * @param startupTimeline 时间线
+     */
+    public void setStartupTimeline(@Nullable StartupTimeline startupTimeline) {
+        this.startupTimeline = startupTimeline;
+    }
+
+    @Nullable
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
+    @NotNull
+    protected final StartupStep startStep(
+            @NotNull StartupPhase phase,
+            @NotNull String beanName,
+            @Nullable Class<?> beanType,
+            @Nullable String detail
+    ) {
+        return StartupStep.start(startupTimeline, phase, beanName, beanType, detail);
+    }
+
+    /**
+     * @param phase 阶段
+     * @return 该阶段的步骤是否会被记录，不会记录时无需构建步骤的附加信息
+     */
+    protected final boolean isRecording(@NotNull StartupPhase phase) {
+        return StartupStep.isRecording(startupTimeline, phase);
+    }
+
+    /**
+     * 将 bean 定义与 bean 对象注册表压缩为不可变快照，此后的查找无需获取注册表的锁<br>
+     * 应在刷新后调用，冻结后注册 bean 将被拒绝，清空工厂后解除冻结
+     */
+    @Override
+    public void freeze() {
+        try {
+            globalLock.lock();
+            beanDefinitionRegistry.freeze();
+            beanObjectRegistry.freeze();
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return beanDefinitionRegistry.isFrozen() && beanObjectRegistry.isFrozen();
+    }
+
+    @Override
+    public void registerBean(@NotNull BeanDefinition beanDefinition) {
+        Asserts.notNull(beanDefinition, "beanDefinition");
+        try {
+            globalLock.lock();
+            beanDefinitionRegistry.registerBeanDefinition(beanDefinition);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    @Override
+    public void registerBeans(@NotNull Collection<? extends BeanDefinition> beanDefinitions) {
+        Asserts.notNull(beanDefinitions, "beanDefinitions");
+        try {
+            globalLock.lock();
+            beanDefinitionRegistry.registerBeanDefinitions(beanDefinitions);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    /**
+     * 定义 bean 时无需持有 {@link #globalLock}，只有最终的一次性发布需要
+     */
+    @Override
+    public void registerBeanTypes(@NotNull Collection<? extends Class<?>> beanTypes) {
+        Asserts.notNull(beanTypes, "beanTypes");
+        final Stream<? extends Class<?>> stream = beanTypes.size() < PARALLEL_DEFINITION_THRESHOLD
+                ? beanTypes.stream()
+                : beanTypes.parallelStream();
+        final List<BeanDefinition> beanDefinitions = stream.map(beanType -> {
+            Asserts.notNull(beanType, "beanType");
+            final StartupStep step = startStep(StartupPhase.DEFINITION, beanType.getName(), beanType, null);
+            try {
+                return beanDefinitionDefiner.defineBean(TypeReference.forType(beanType));
+            } finally {
+                step.end();
+            }
+        }).toList();
+        registerBeans(beanDefinitions);
+    }
+
     @Override
     public void registerBean(@NotNull Class<?> beanType) {
         Asserts.notNull(beanType, "beanType");
@@ -62,7 +179,14 @@ public abstract class AbstractRegistrableBeanFactory extends AbstractStatusBeanF
         Asserts.notNull(beanTypeReference, "beanTypeReference");
         try {
             globalLock.lock();
-            final BeanDefinition beanDefinition = beanDefinitionDefiner.defineBean(beanTypeReference);
+            final Class<?> beanType = beanTypeReference.getRawReferenceType();
+            final StartupStep step = startStep(StartupPhase.DEFINITION, beanType.getName(), beanType, null);
+            final BeanDefinition beanDefinition;
+            try {
+                beanDefinition = beanDefinitionDefiner.defineBean(beanTypeReference);
+            } finally {
+                step.end();
+            }
             beanDefinitionRegistry.registerBeanDefinition(beanDefinition);
         } finally {
             globalLock.unlock();
@@ -83,7 +207,14 @@ public abstract class AbstractRegistrableBeanFactory extends AbstractStatusBeanF
         try {
             globalLock.lock();
             throwExIfContainsBeanDefinition(beanName);
-            final BeanDefinition beanDefinition = beanDefinitionDefiner.defineBean(beanName, beanTypeReference);
+            final StartupStep step = startStep(StartupPhase.DEFINITION, beanName,
+                    beanTypeReference.getRawReferenceType(), null);
+            final BeanDefinition beanDefinition;
+            try {
+                beanDefinition = beanDefinitionDefiner.defineBean(beanName, beanTypeReference);
+            } finally {
+                step.end();
+            }
             beanDefinitionRegistry.registerBeanDefinition(beanDefinition);
         } finally {
             globalLock.unlock();
@@ -111,11 +242,25 @@ public abstract class AbstractRegistrableBeanFactory extends AbstractStatusBeanF
                     beanTypeReference, true, false);
             beanDefinitionRegistry.registerBeanDefinition(beanDefinition);
             beanObjectRegistry.registerSingleton(beanName, beanTypeReference, beanObject);
+            providedBeanNames.add(beanName);
         } finally {
             globalLock.unlock();
         }
     }
 
+    /**
+     * @param beanName bean 名称
+     * @return 该 bean 是否在注册时直接提供了实例
+     */
+    protected final boolean isProvidedBean(@NotNull String beanName) {
+        return providedBeanNames.contains(beanName);
+    }
+
+    @Override
+    protected void doClear() {
+        providedBeanNames.clear();
+    }
+
     private void throwExIfContainsBeanDefinition(String beanName) {
         if (beanDefinitionRegistry.containsBeanDefinition(beanName)) {
             throw new NameAlreadyBoundException(beanName);
@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>BeanCreationLocks</p>
+ * 以 bean 名称为单位的创建锁，互不依赖的 bean 可以被不同线程同时创建，线程只会等待它实际需要的 bean<br>
+ * 等待前会沿着“锁的持有者正在等待的锁”检查跨线程的循环等待，以异常代替死锁
+ *
+ * <p>Created on 2026/10/17 19:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class BeanCreationLocks {
+
+    private final Map<String, CreationLock> locks = new ConcurrentHashMap<>(64);
+    /**
+     * 正在等待创建锁的线程及其等待的锁
+     */
+    private final Map<Thread, CreationLock> waitingLocks = new ConcurrentHashMap<>(16);
+
+    /**
+     * @param beanName bean 名称
+     * @return 已获取的锁，等待将与其他线程形成循环时返回 null
+     */
+    @Nullable
+    CreationLock lock(@NotNull String beanName) {
+        Asserts.hasText(beanName, "beanName");
+        final CreationLock creationLock = locks.computeIfAbsent(beanName, k -> new CreationLock());
+        final Thread currentThread = Thread.currentThread();
+        if (!creationLock.lock.tryLock()) {
+            // 先登记再检查，同时等待的两个线程至少有一个能发现循环
+            waitingLocks.put(currentThread, creationLock);
+            try {
+                if (isCircularWait(creationLock, currentThread)) {
+                    return null;
+                }
+                creationLock.lock.lock();
+            } finally {
+                waitingLocks.remove(currentThread);
+            }
+        }
+        creationLock.owner = currentThread;
+        return creationLock;
+    }
+
+    void unlock(@NotNull CreationLock creationLock) {
+        if (creationLock.lock.getHoldCount() == 1) {
+            creationLock.owner = null;
+        }
+        creationLock.lock.unlock();
+    }
+
+    void clear() {
+        locks.clear();
+    }
+
+    private boolean isCircularWait(CreationLock creationLock, Thread currentThread) {
+        CreationLock waitingLock = creationLock;
+        Thread owner;
+        // 等待链的长度不会超过正在等待的线程数量，超出时说明链在检查期间发生了变化
+        for (int i = waitingLocks.size(); i >= 0; i--) {
+            owner = waitingLock.owner;
+            if (owner == null) {
+                return false;
+            }
+            if (owner == currentThread) {
+                return true;
+            }
+            waitingLock = waitingLocks.get(owner);
+            if (waitingLock == null) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>CreationLock</p>
+     *
+     * <p>Created on 2026/10/17 19:40</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    static final class CreationLock {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        /**
+         * 当前持有该锁的线程
+         */
+        private volatile Thread owner;
+    }
+}
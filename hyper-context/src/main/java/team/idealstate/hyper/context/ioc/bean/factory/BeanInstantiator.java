@@ -0,0 +1,41 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+
+/**
+ * <p>BeanInstantiator</p>
+ * 由 {@link BeanInstantiatorGenerator} 为 bean 类型生成的实例化器，直接调用构造器而非通过反射<br>
+ * 该接口仅供生成的隐藏类实现，因此必须是公开的
+ *
+ * <p>Created on 2026/10/17 11:10</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public interface BeanInstantiator {
+
+    /**
+     * @param constructorIndex 构造器在注入计划中的下标
+     * @param arguments        构造参数
+     * @return 新的实例
+     * @throws Throwable 构造器抛出的任意异常
+     */
+    @NotNull
+    Object newInstance(int constructorIndex, @NotNull Object[] arguments) throws Throwable;
+}
@@ -0,0 +1,182 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+/**
+ * <p>BeanInstantiatorGenerator</p>
+ * 通过 ASM 为 bean 类型生成 {@link BeanInstantiator} 隐藏类<br>
+ * 隐藏类与 bean 类型同属一个嵌套组，因此可以直接调用私有构造器，且不需要访问检查
+ *
+ * <p>Created on 2026/10/17 11:10</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+abstract class BeanInstantiatorGenerator {
+
+    private static final String INSTANTIATOR_SUFFIX = "$$HyperInstantiator";
+    private static final String INSTANTIATOR_INTERNAL_NAME = Type.getInternalName(BeanInstantiator.class);
+    private static final String NEW_INSTANCE_DESCRIPTOR = "(I[Ljava/lang/Object;)Ljava/lang/Object;";
+
+    /**
+     * @param beanType     bean 类型
+     * @param constructors 构造器，其下标即为 {@link BeanInstantiator#newInstance(int, Object[])} 的构造器下标
+     * @return 生成的实例化器，无法为该类型生成时返回 null
+     */
+    @Nullable
+    static BeanInstantiator generate(@NotNull Class<?> beanType, @NotNull List<Constructor<?>> constructors) {
+        Asserts.notNull(beanType, "beanType");
+        Asserts.notNull(constructors, "constructors");
+        if (constructors.isEmpty() || beanType.isHidden() || !isVisible(beanType.getClassLoader())) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanType, MethodHandles.lookup());
+            if (!lookup.hasFullPrivilegeAccess()) {
+                return null;
+            }
+            for (final Constructor<?> constructor : constructors) {
+                if (constructor.getDeclaringClass() != beanType) {
+                    return null;
+                }
+                for (final Class<?> parameterType : constructor.getParameterTypes()) {
+                    if (!parameterType.isPrimitive()) {
+                        lookup.accessClass(parameterType);
+                    }
+                }
+            }
+            final byte[] bytecode = generateBytecode(beanType, constructors);
+            final MethodHandles.Lookup instantiatorLookup = lookup.defineHiddenClass(
+                    bytecode, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            return (BeanInstantiator) instantiatorLookup
+                    .findConstructor(instantiatorLookup.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static boolean isVisible(ClassLoader classLoader) {
+        try {
+            return Class.forName(BeanInstantiator.class.getName(), false, classLoader) == BeanInstantiator.class;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static byte[] generateBytecode(Class<?> beanType, List<Constructor<?>> constructors) {
+        final String beanInternalName = Type.getInternalName(beanType);
+        final ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+                beanInternalName + INSTANTIATOR_SUFFIX, null, "java/lang/Object",
+                new String[]{INSTANTIATOR_INTERNAL_NAME});
+
+        MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        methodVisitor.visitCode();
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+        methodVisitor.visitMaxs(0, 0);
+        methodVisitor.visitEnd();
+
+        methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "newInstance", NEW_INSTANCE_DESCRIPTOR,
+                null, new String[]{"java/lang/Throwable"});
+        methodVisitor.visitCode();
+        final int size = constructors.size();
+        final Label[] labels = new Label[size];
+        for (int i = 0; i < size; i++) {
+            labels[i] = new Label();
+        }
+        final Label defaultLabel = new Label();
+        methodVisitor.visitVarInsn(Opcodes.ILOAD, 1);
+        methodVisitor.visitTableSwitchInsn(0, size - 1, defaultLabel, labels);
+        Class<?>[] parameterTypes;
+        for (int i = 0; i < size; i++) {
+            methodVisitor.visitLabel(labels[i]);
+            methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            methodVisitor.visitTypeInsn(Opcodes.NEW, beanInternalName);
+            methodVisitor.visitInsn(Opcodes.DUP);
+            parameterTypes = constructors.get(i).getParameterTypes();
+            for (int j = 0; j < parameterTypes.length; j++) {
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+                methodVisitor.visitLdcInsn(j);
+                methodVisitor.visitInsn(Opcodes.AALOAD);
+                visitCast(methodVisitor, parameterTypes[j]);
+            }
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, beanInternalName, "<init>",
+                    Type.getConstructorDescriptor(constructors.get(i)), false);
+            methodVisitor.visitInsn(Opcodes.ARETURN);
+        }
+        methodVisitor.visitLabel(defaultLabel);
+        methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+        methodVisitor.visitTypeInsn(Opcodes.NEW, "java/lang/IndexOutOfBoundsException");
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitVarInsn(Opcodes.ILOAD, 1);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IndexOutOfBoundsException",
+                "<init>", "(I)V", false);
+        methodVisitor.visitInsn(Opcodes.ATHROW);
+        methodVisitor.visitMaxs(0, 0);
+        methodVisitor.visitEnd();
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private static void visitCast(MethodVisitor methodVisitor, Class<?> type) {
+        if (!type.isPrimitive()) {
+            if (type != Object.class) {
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+            }
+            return;
+        }
+        final String wrapperName;
+        if (type == boolean.class) {
+            wrapperName = "java/lang/Boolean";
+        } else if (type == char.class) {
+            wrapperName = "java/lang/Character";
+        } else if (type == byte.class) {
+            wrapperName = "java/lang/Byte";
+        } else if (type == short.class) {
+            wrapperName = "java/lang/Short";
+        } else if (type == int.class) {
+            wrapperName = "java/lang/Integer";
+        } else if (type == long.class) {
+            wrapperName = "java/lang/Long";
+        } else if (type == float.class) {
+            wrapperName = "java/lang/Float";
+        } else {
+            wrapperName = "java/lang/Double";
+        }
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, wrapperName);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapperName, type.getName() + "Value",
+                "()" + Type.getDescriptor(type), false);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>BeanPool</p>
+ * 一个池化原型 bean 的空闲实例池，按后进先出的顺序借出以保持实例的缓存亲和性<br>
+ * 池只负责保存空闲实例，实例的重置与销毁由 bean 工厂完成
+ *
+ * <p>Created on 2026/10/17 15:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class BeanPool {
+
+    private final BeanDefinition beanDefinition;
+    private final int maxIdle;
+    private final long maxIdleNanos;
+    private final Deque<IdleBean> idleBeans;
+
+    /**
+     * @param beanDefinition bean 定义
+     * @param maxIdle        最多保留的空闲实例数量
+     * @param maxIdleTime    空闲实例的最长保留时间（毫秒），小于等于 0 时不会超时
+     */
+    public BeanPool(@NotNull BeanDefinition beanDefinition, int maxIdle, long maxIdleTime) {
+        Asserts.notNull(beanDefinition, "beanDefinition");
+        Asserts.isTrue(maxIdle >= 0, "maxIdle must be greater than or equal to 0");
+        this.beanDefinition = beanDefinition;
+        this.maxIdle = maxIdle;
+        this.maxIdleNanos = maxIdleTime <= 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(maxIdleTime);
+        this.idleBeans = new ArrayDeque<>(Math.min(maxIdle, 16));
+    }
+
+    @NotNull
+    public BeanDefinition getBeanDefinition() {
+        return beanDefinition;
+    }
+
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    /**
+     * @return 借出最近归还的空闲实例，池为空时返回 null
+     */
+    @Nullable
+    Object borrow() {
+        final IdleBean idleBean;
+        synchronized (idleBeans) {
+            idleBean = idleBeans.pollFirst();
+        }
+        return idleBean == null ? null : idleBean.beanObject;
+    }
+
+    /**
+     * @param beanObject 已重置的实例
+     * @return 池已满而未被接收时返回 false
+     * @throws IllegalArgumentException 该实例已经在池中
+     */
+    boolean release(@NotNull Object beanObject) {
+        final IdleBean idleBean = new IdleBean(beanObject, System.nanoTime());
+        synchronized (idleBeans) {
+            Asserts.isTrue(!containsIdle(beanObject), "beanObject has already been released");
+            if (idleBeans.size() >= maxIdle) {
+                return false;
+            }
+            idleBeans.addFirst(idleBean);
+        }
+        return true;
+    }
+
+    /**
+     * @return 被驱逐的超时空闲实例，需由调用者销毁
+     */
+    @NotNull
+    List<Object> evictExpired() {
+        if (maxIdleNanos == Long.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+        final long now = System.nanoTime();
+        List<Object> evicted = null;
+        synchronized (idleBeans) {
+            IdleBean idleBean;
+            while ((idleBean = idleBeans.peekLast()) != null && now - idleBean.releasedAt > maxIdleNanos) {
+                idleBeans.pollLast();
+                if (evicted == null) {
+                    evicted = new ArrayList<>(4);
+                }
+                evicted.add(idleBean.beanObject);
+            }
+        }
+        return evicted == null ? Collections.emptyList() : evicted;
+    }
+
+    /**
+     * @return 所有空闲实例，需由调用者销毁
+     */
+    @NotNull
+    List<Object> drain() {
+        final List<Object> drained;
+        synchronized (idleBeans) {
+            drained = new ArrayList<>(idleBeans.size());
+            for (final IdleBean idleBean : idleBeans) {
+                drained.add(idleBean.beanObject);
+            }
+            idleBeans.clear();
+        }
+        return drained;
+    }
+
+    /**
+     * @param beanObject 实例
+     * @return 该实例是否已经在池中，按引用判断
+     */
+    boolean isIdle(@NotNull Object beanObject) {
+        synchronized (idleBeans) {
+            return containsIdle(beanObject);
+        }
+    }
+
+    private boolean containsIdle(Object beanObject) {
+        for (final IdleBean idleBean : idleBeans) {
+            if (idleBean.beanObject == beanObject) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getIdleCount() {
+        synchronized (idleBeans) {
+            return idleBeans.size();
+        }
+    }
+
+    private static final class IdleBean {
+
+        private final Object beanObject;
+        private final long releasedAt;
+
+        private IdleBean(Object beanObject, long releasedAt) {
+            this.beanObject = beanObject;
+            this.releasedAt = releasedAt;
+        }
+    }
+}
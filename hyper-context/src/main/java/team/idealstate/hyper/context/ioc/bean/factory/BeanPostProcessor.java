@@ -18,6 +18,10 @@ package team.idealstate.hyper.context.ioc.bean.factory;
 
 import team.idealstate.hyper.commons.lang.NotNull;
 
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * <p>BeanPostProcessor</p>
  *
@@ -28,6 +32,28 @@ import team.idealstate.hyper.commons.lang.NotNull;
  */
 public interface BeanPostProcessor {
 
+    /**
+     * 声明该处理器适用的 bean 类型，bean 类型可以转换至其中之一时才会被处理<br>
+     * 与 {@link #getTargetAnnotations()} 均为空时（默认）处理所有 bean
+     *
+     * @return 适用的 bean 类型
+     */
+    @NotNull
+    default Collection<Class<?>> getTargetTypes() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * 声明该处理器适用的注解，bean 类型标注了其中之一时才会被处理
+     *
+     * @return 适用的注解类型
+     * @see #getTargetTypes()
+     */
+    @NotNull
+    default Collection<Class<? extends Annotation>> getTargetAnnotations() {
+        return Collections.emptyList();
+    }
+
     @NotNull
     default Object postProcessBeforeInitialization(@NotNull String beanName, @NotNull Object beanObject) {
         return beanObject;
@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>BeanPostProcessorIndex</p>
+ * 一组 bean 后置处理器按 bean 类型预先筛选后的结果，bean 只会交由声明适用于它的处理器处理<br>
+ * 处理器发生变化时整个索引将被替换
+ *
+ * <p>Created on 2026/10/17 21:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class BeanPostProcessorIndex {
+
+    private static final BeanPostProcessor[] NONE = new BeanPostProcessor[0];
+    static final BeanPostProcessorIndex EMPTY = new BeanPostProcessorIndex(List.of());
+
+    private final BeanPostProcessor[] beanPostProcessors;
+    private final Map<Class<?>, BeanPostProcessor[]> byBeanType = new ConcurrentHashMap<>(64);
+
+    /**
+     * @param beanPostProcessors 按调用顺序排列的处理器
+     */
+    BeanPostProcessorIndex(@NotNull List<BeanPostProcessor> beanPostProcessors) {
+        Asserts.notNull(beanPostProcessors, "beanPostProcessors");
+        this.beanPostProcessors = beanPostProcessors.toArray(NONE);
+    }
+
+    /**
+     * @param beanType bean 类型
+     * @return 适用于该类型的处理器，按调用顺序排列
+     */
+    @NotNull
+    BeanPostProcessor[] get(@NotNull Class<?> beanType) {
+        if (beanPostProcessors.length == 0) {
+            return NONE;
+        }
+        BeanPostProcessor[] applicable = byBeanType.get(beanType);
+        if (applicable == null) {
+            applicable = resolve(beanType);
+            final BeanPostProcessor[] previous = byBeanType.putIfAbsent(beanType, applicable);
+            if (previous != null) {
+                applicable = previous;
+            }
+        }
+        return applicable;
+    }
+
+    private BeanPostProcessor[] resolve(Class<?> beanType) {
+        final List<BeanPostProcessor> applicable = new ArrayList<>(beanPostProcessors.length);
+        for (final BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+            if (isApplicable(beanPostProcessor, beanType)) {
+                applicable.add(beanPostProcessor);
+            }
+        }
+        return applicable.isEmpty() ? NONE : applicable.toArray(NONE);
+    }
+
+    private static boolean isApplicable(BeanPostProcessor beanPostProcessor, Class<?> beanType) {
+        final Collection<Class<?>> targetTypes = beanPostProcessor.getTargetTypes();
+        final Collection<Class<? extends Annotation>> targetAnnotations = beanPostProcessor.getTargetAnnotations();
+        if (targetTypes.isEmpty() && targetAnnotations.isEmpty()) {
+            return true;
+        }
+        for (final Class<?> targetType : targetTypes) {
+            if (targetType.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        for (final Class<? extends Annotation> targetAnnotation : targetAnnotations) {
+            if (beanType.isAnnotationPresent(targetAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.order.Order;
+import team.idealstate.hyper.commons.order.OrderComparator;
+import team.idealstate.hyper.context.ioc.annotation.Autowired;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * <p>ConstructorInjectionPlan</p>
+ * 一个 bean 类型的构造器注入计划，包括按优先级排序的候选构造器及其参数的依赖描述<br>
+ * 每个类型只需解析一次，之后的每次创建仅需解析依赖对象并调用构造器
+ *
+ * <p>Created on 2026/10/17 10:05</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class ConstructorInjectionPlan {
+
+    private final Class<?> beanType;
+    private final List<Candidate> candidates;
+    private final boolean generated;
+
+    /**
+     * @param beanType              bean 类型
+     * @param generateInstantiator  是否尝试为该类型生成 {@link BeanInstantiator}，无法生成时回退至反射
+     */
+    ConstructorInjectionPlan(@NotNull Class<?> beanType, boolean generateInstantiator) {
+        Asserts.notNull(beanType, "beanType");
+        this.beanType = beanType;
+        final List<Constructor<?>> constructors = resolveConstructors(beanType);
+        final BeanInstantiator instantiator = generateInstantiator ?
+                BeanInstantiatorGenerator.generate(beanType, constructors) : null;
+        final List<Candidate> candidates = new ArrayList<>(constructors.size());
+        for (int i = 0; i < constructors.size(); i++) {
+            candidates.add(new Candidate(constructors.get(i), instantiator, i));
+        }
+        this.candidates = Collections.unmodifiableList(candidates);
+        this.generated = instantiator != null;
+    }
+
+    @NotNull
+    Class<?> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * @return 按优先级排序的候选构造器，不会为空
+     */
+    @NotNull
+    List<Candidate> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * @return 是否通过生成的 {@link BeanInstantiator} 实例化
+     */
+    boolean isGenerated() {
+        return generated;
+    }
+
+    private static List<Constructor<?>> resolveConstructors(Class<?> type) {
+        final List<Constructor<?>> constructors = new ArrayList<>(List.of(type.getDeclaredConstructors()));
+        final Iterator<Constructor<?>> iterator = constructors.iterator();
+        Constructor<?> constructor;
+        Constructor<?> noParamConstructor = null;
+        while (iterator.hasNext()) {
+            constructor = iterator.next();
+            if (constructor.getParameterCount() == 0) {
+                if (constructor.getDeclaredAnnotation(Order.class) == null) {
+                    iterator.remove();
+                    noParamConstructor = constructor;
+                    continue;
+                }
+            }
+            if (constructor.getDeclaredAnnotation(Autowired.class) == null) {
+                iterator.remove();
+            }
+        }
+        constructors.sort(OrderComparator.reflectElement());
+        if (noParamConstructor != null) {
+            constructors.add(noParamConstructor);
+        }
+        if (constructors.isEmpty()) {
+            throw new RuntimeException("no constructor is available");
+        }
+        return constructors;
+    }
+
+    static final class Candidate {
+
+        private final Constructor<?> constructor;
+        private final DependencyDescriptor[] dependencies;
+        private final BeanInstantiator instantiator;
+        private final int index;
+
+        private Candidate(Constructor<?> constructor, BeanInstantiator instantiator, int index) {
+            final Parameter[] parameters = constructor.getParameters();
+            final DependencyDescriptor[] dependencies = new DependencyDescriptor[parameters.length];
+            Parameter parameter;
+            for (int i = 0; i < parameters.length; i++) {
+                parameter = parameters[i];
+                dependencies[i] = new DependencyDescriptor(parameter.getName(), parameter.getParameterizedType(), parameter);
+            }
+            if (instantiator == null) {
+                constructor.setAccessible(true);
+            }
+            this.constructor = constructor;
+            this.dependencies = dependencies;
+            this.instantiator = instantiator;
+            this.index = index;
+        }
+
+        @NotNull
+        Constructor<?> getConstructor() {
+            return constructor;
+        }
+
+        @NotNull
+        List<DependencyDescriptor> getDependencies() {
+            return List.of(dependencies);
+        }
+
+        /**
+         * 通过该构造器创建实例
+         *
+         * @param arguments 由 {@link #resolveArguments(AbstractAutowireableBeanFactory)} 解析出的依赖对象
+         * @return 新的实例
+         * @throws InstantiationException    类型无法实例化
+         * @throws IllegalAccessException    构造器无法访问
+         * @throws InvocationTargetException 构造器抛出异常
+         */
+        @NotNull
+        Object newInstance(@NotNull Object[] arguments)
+                throws InstantiationException, IllegalAccessException, InvocationTargetException {
+            if (instantiator == null) {
+                return constructor.newInstance(arguments);
+            }
+            try {
+                return instantiator.newInstance(index, arguments);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        /**
+         * @param beanFactory bean 工厂
+         * @return 按参数顺序解析出的依赖对象
+         */
+        @NotNull
+        Object[] resolveArguments(@NotNull AbstractAutowireableBeanFactory beanFactory) {
+            final Object[] arguments = new Object[dependencies.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                arguments[i] = dependencies[i].resolve(beanFactory);
+            }
+            return arguments;
+        }
+
+        /**
+         * @param beanFactory bean 工厂
+         * @return 按参数顺序解析出的依赖对象，任一必需的依赖不存在时返回 null
+         */
+        @Nullable
+        Object[] resolveArgumentsIfPresent(@NotNull AbstractAutowireableBeanFactory beanFactory) {
+            final Object[] arguments = new Object[dependencies.length];
+            DependencyDescriptor dependency;
+            for (int i = 0; i < dependencies.length; i++) {
+                dependency = dependencies[i];
+                arguments[i] = dependency.resolveIfPresent(beanFactory);
+                if (arguments[i] == null && dependency.isRequired()) {
+                    return null;
+                }
+            }
+            return arguments;
+        }
+    }
+}
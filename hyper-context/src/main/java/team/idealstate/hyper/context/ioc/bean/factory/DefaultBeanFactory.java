@@ -16,7 +16,9 @@
 
 package team.idealstate.hyper.context.ioc.bean.factory;
 
+import team.idealstate.hyper.commons.lang.Nullable;
 import team.idealstate.hyper.context.ioc.bean.definition.DefaultBeanDefinitionDefiner;
+import team.idealstate.hyper.context.ioc.bean.registry.CompactBeanDefinitionRegistry;
 import team.idealstate.hyper.context.ioc.bean.registry.DefaultBeanDefinitionRegistry;
 import team.idealstate.hyper.context.ioc.bean.registry.DefaultBeanObjectRegistry;
 
@@ -31,10 +33,29 @@ import team.idealstate.hyper.context.ioc.bean.registry.DefaultBeanObjectRegistry
 public final class DefaultBeanFactory extends AbstractAutowireableBeanFactory {
 
     public DefaultBeanFactory() {
+        this(null);
+    }
+
+    /**
+     * 创建一个子工厂，自身未定义的 bean 将委托给父工厂查找，父工厂中已初始化的单例由所有子工厂共享
+     *
+     * @param parentBeanFactory 父工厂，应当已完成刷新并冻结
+     */
+    public DefaultBeanFactory(@Nullable BeanFactory parentBeanFactory) {
+        this(parentBeanFactory, false);
+    }
+
+    /**
+     * @param parentBeanFactory 父工厂，应当已完成刷新并冻结
+     * @param compact           是否使用按整数 id 存储的紧凑注册表，适用于数万个 bean 的容器
+     * @see CompactBeanDefinitionRegistry
+     */
+    public DefaultBeanFactory(@Nullable BeanFactory parentBeanFactory, boolean compact) {
         super(
                 new DefaultBeanDefinitionDefiner(),
-                new DefaultBeanDefinitionRegistry(),
-                new DefaultBeanObjectRegistry()
+                compact ? new CompactBeanDefinitionRegistry() : new DefaultBeanDefinitionRegistry(),
+                new DefaultBeanObjectRegistry(compact),
+                parentBeanFactory
         );
     }
 
@@ -0,0 +1,244 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.StringUtils;
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.ObjectFactory;
+import team.idealstate.hyper.context.ioc.annotation.Qualifier;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * <p>DependencyDescriptor</p>
+ * 一个注入点（如构造器参数）的预解析信息，创建 bean 时只需按此解析依赖对象<br>
+ * 类型为 {@link ObjectFactory} 的注入点将注入一个延迟解析其目标依赖的对象工厂
+ *
+ * <p>Created on 2026/10/17 10:05</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class DependencyDescriptor {
+
+    private static final TypeReference<Map<String, Object>> BEANS_MAP_TYPE = new TypeReference<>(){};
+    private static final TypeReference<Collection<Object>> BEANS_COLLECTION_TYPE = new TypeReference<>(){};
+
+    private final String name;
+    private final boolean qualified;
+    private final Type type;
+    private final TypeReference<?> typeReference;
+    private final boolean required;
+    private final CollectionKind collectionKind;
+    private final TypeReference<?> elementTypeReference;
+    /**
+     * 注入点为 {@link ObjectFactory} 时其延迟解析的目标依赖，反之则为 null
+     */
+    private final DependencyDescriptor deferredDependency;
+
+    /**
+     * @param name    注入点名称，存在 {@link Qualifier} 且其值有效时将使用其值
+     * @param type    注入点（泛型）类型
+     * @param element 注入点元素，用于读取 {@link Qualifier} 与 {@link NotNull}
+     */
+    DependencyDescriptor(@NotNull String name, @NotNull Type type, @NotNull AnnotatedElement element) {
+        this(resolveName(name, element), element.getDeclaredAnnotation(Qualifier.class) != null, type,
+                element.getDeclaredAnnotation(NotNull.class) != null);
+    }
+
+    private DependencyDescriptor(String name, boolean qualified, Type type, boolean required) {
+        Asserts.notNull(type, "type");
+        this.name = name;
+        this.qualified = qualified;
+        this.type = type;
+        this.typeReference = TypeReference.forType(type);
+
+        if (type instanceof ParameterizedType that && ObjectFactory.class.equals(that.getRawType())) {
+            this.required = false;
+            this.collectionKind = CollectionKind.NONE;
+            this.elementTypeReference = null;
+            this.deferredDependency = new DependencyDescriptor(name, qualified, that.getActualTypeArguments()[0], required);
+            return;
+        }
+        this.required = required;
+        this.deferredDependency = null;
+
+        CollectionKind collectionKind = CollectionKind.NONE;
+        Type elementType = null;
+        if (type instanceof ParameterizedType that) {
+            final Type thatRawType = that.getRawType();
+            if (BEANS_MAP_TYPE.isAssignableFrom(that) && Map.class.equals(thatRawType)) {
+                collectionKind = CollectionKind.MAP;
+                elementType = that.getActualTypeArguments()[1];
+            } else if (BEANS_COLLECTION_TYPE.isAssignableFrom(that)) {
+                if (Collection.class.equals(thatRawType) || List.class.equals(thatRawType)) {
+                    collectionKind = CollectionKind.LIST;
+                    elementType = that.getActualTypeArguments()[0];
+                } else if (Set.class.equals(thatRawType)) {
+                    collectionKind = CollectionKind.SET;
+                    elementType = that.getActualTypeArguments()[0];
+                }
+            }
+        }
+        this.collectionKind = collectionKind;
+        this.elementTypeReference = elementType == null ? null : TypeReference.forType(elementType);
+    }
+
+    private static String resolveName(String name, AnnotatedElement element) {
+        Asserts.notNull(name, "name");
+        Asserts.notNull(element, "element");
+        final Qualifier qualifier = element.getDeclaredAnnotation(Qualifier.class);
+        if (qualifier != null && !StringUtils.isNullOrBlank(qualifier.value())) {
+            return qualifier.value();
+        }
+        return name;
+    }
+
+    @NotNull
+    String getName() {
+        return name;
+    }
+
+    boolean isQualified() {
+        return qualified;
+    }
+
+    @NotNull
+    Type getType() {
+        return type;
+    }
+
+    @NotNull
+    TypeReference<?> getTypeReference() {
+        return typeReference;
+    }
+
+    boolean isRequired() {
+        return required;
+    }
+
+    /**
+     * @return 注入点为 {@link ObjectFactory} 时其延迟解析的目标依赖，反之则为 null
+     */
+    @Nullable
+    DependencyDescriptor getDeferredDependency() {
+        return deferredDependency;
+    }
+
+    /**
+     * @return 注入点为 bean 集合或映射时的元素类型，反之则为 null
+     */
+    @Nullable
+    Type getElementType() {
+        return elementTypeReference == null ? null : elementTypeReference.getReferenceType();
+    }
+
+    /**
+     * 依次按名称、类型、集合元素类型解析依赖对象<br>
+     * 启用了延迟代理且依赖尚不可用时，将返回依赖的延迟代理
+     *
+     * @param beanFactory bean 工厂
+     * @return 依赖对象
+     */
+    @Nullable
+    Object resolve(@NotNull AbstractAutowireableBeanFactory beanFactory) {
+        final Object dependency = resolveIfPresent(beanFactory);
+        if (required) {
+            Asserts.notNull(dependency, name);
+        }
+        return dependency;
+    }
+
+    /**
+     * 与 {@link #resolve(AbstractAutowireableBeanFactory)} 相同，但必需的依赖不存在时返回 null 而非抛出异常
+     *
+     * @param beanFactory bean 工厂
+     * @return 依赖对象
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Object resolveIfPresent(@NotNull AbstractAutowireableBeanFactory beanFactory) {
+        if (deferredDependency != null) {
+            return new DeferredObjectFactory(beanFactory, deferredDependency);
+        }
+        Object dependency = beanFactory.resolveLazyProxy(this);
+        if (dependency != null) {
+            return dependency;
+        }
+        dependency = beanFactory.getBean(name, (TypeReference) typeReference);
+        if (dependency == null && !qualified) {
+            final Map<String, Object> beanObjects = beanFactory.getBeans((TypeReference) typeReference);
+            for (final Object beanObject : beanObjects.values()) {
+                dependency = beanObject;
+                break;
+            }
+        }
+        if (dependency == null) {
+            switch (collectionKind) {
+                case MAP -> dependency = beanFactory.getBeans(elementTypeReference);
+                case LIST -> dependency = new ArrayList<>(beanFactory.getBeans(elementTypeReference).values());
+                case SET -> dependency = new HashSet<>(beanFactory.getBeans(elementTypeReference).values());
+            }
+        }
+        return dependency;
+    }
+
+    private enum CollectionKind {
+        NONE, MAP, LIST, SET
+    }
+
+    /**
+     * 首次获取时才解析目标依赖，之后始终返回同一个对象
+     */
+    private static final class DeferredObjectFactory implements ObjectFactory<Object> {
+
+        private final AbstractAutowireableBeanFactory beanFactory;
+        private final DependencyDescriptor dependency;
+        private volatile Object target;
+
+        private DeferredObjectFactory(AbstractAutowireableBeanFactory beanFactory, DependencyDescriptor dependency) {
+            this.beanFactory = beanFactory;
+            this.dependency = dependency;
+        }
+
+        @Override
+        public Object getObject() {
+            Object target = this.target;
+            if (target == null) {
+                synchronized (this) {
+                    target = this.target;
+                    if (target == null) {
+                        target = dependency.resolve(beanFactory);
+                        this.target = target;
+                    }
+                }
+            }
+            return target;
+        }
+
+        @Override
+        public String toString() {
+            return "ObjectFactory<" + dependency.getType().getTypeName() + ">(" + dependency.getName() + ")";
+        }
+    }
+}
@@ -0,0 +1,453 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.util.*;
+
+/**
+ * <p>DependencyGraph</p>
+ * 由已注册的 bean 定义静态分析得出的依赖图，分析过程不会创建任何 bean<br>
+ * 包含循环依赖、无法满足与存在歧义的依赖，以及每个 bean 的深度与扇出，可导出为 DOT 或 JSON
+ *
+ * <p>Created on 2026/10/17 22:00</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class DependencyGraph {
+
+    private final Map<String, Node> nodes;
+    private final List<Edge> edges;
+    private final List<Problem> problems;
+    private final List<String> criticalPath;
+
+    DependencyGraph(
+            @NotNull Map<String, Node> nodes,
+            @NotNull List<Edge> edges,
+            @NotNull List<Problem> problems,
+            @NotNull List<String> criticalPath
+    ) {
+        Asserts.notNull(nodes, "nodes");
+        Asserts.notNull(edges, "edges");
+        Asserts.notNull(problems, "problems");
+        Asserts.notNull(criticalPath, "criticalPath");
+        this.nodes = Collections.unmodifiableMap(new LinkedHashMap<>(nodes));
+        this.edges = List.copyOf(edges);
+        this.problems = List.copyOf(problems);
+        this.criticalPath = List.copyOf(criticalPath);
+    }
+
+    /**
+     * @return 以 bean 名称为键、按名称排序的节点
+     */
+    @NotNull
+    public Map<String, Node> getNodes() {
+        return nodes;
+    }
+
+    @NotNull
+    public List<Edge> getEdges() {
+        return edges;
+    }
+
+    @NotNull
+    public List<Problem> getProblems() {
+        return problems;
+    }
+
+    public boolean hasProblems() {
+        return !problems.isEmpty();
+    }
+
+    /**
+     * @return 最长的依赖链，从依赖最深的 bean 开始，以不再依赖其他 bean 的 bean 结束
+     */
+    @NotNull
+    public List<String> getCriticalPath() {
+        return criticalPath;
+    }
+
+    public int getMaxDepth() {
+        int maxDepth = 0;
+        for (final Node node : nodes.values()) {
+            maxDepth = Math.max(maxDepth, node.depth);
+        }
+        return maxDepth;
+    }
+
+    public int getMaxFanOut() {
+        int maxFanOut = 0;
+        for (final Node node : nodes.values()) {
+            maxFanOut = Math.max(maxFanOut, node.fanOut);
+        }
+        return maxFanOut;
+    }
+
+    /**
+     * @return Graphviz DOT 格式的依赖图，字段与方法注入为虚线，对象工厂注入为点线，存在问题的 bean 标为红色
+     */
+    @NotNull
+    public String toDot() {
+        final Set<String> problemBeanNames = getProblemBeanNames();
+        final StringBuilder builder = new StringBuilder(64 + nodes.size() * 48 + edges.size() * 48);
+        builder.append("digraph beans {\n");
+        for (final Node node : nodes.values()) {
+            builder.append("  ").append(quote(node.name)).append(" [label=")
+                    .append('"').append(escape(node.name)).append("\\n").append(escape(node.typeName)).append('"');
+            if (!node.singleton) {
+                builder.append(", shape=box");
+            }
+            if (problemBeanNames.contains(node.name)) {
+                builder.append(", color=red");
+            }
+            builder.append("];\n");
+        }
+        for (final Edge edge : edges) {
+            builder.append("  ").append(quote(edge.from)).append(" -> ").append(quote(edge.to))
+                    .append(" [label=").append(quote(edge.injectionPoint));
+            switch (edge.kind) {
+                case FIELD -> builder.append(", style=dashed");
+                case DEFERRED -> builder.append(", style=dotted");
+                default -> {}
+            }
+            builder.append("];\n");
+        }
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    /**
+     * @return JSON 格式的依赖图
+     */
+    @NotNull
+    public String toJson() {
+        final StringBuilder builder = new StringBuilder(128 + nodes.size() * 96 + edges.size() * 80);
+        builder.append("{\"maxDepth\":").append(getMaxDepth())
+                .append(",\"maxFanOut\":").append(getMaxFanOut())
+                .append(",\"criticalPath\":");
+        appendJsonArray(builder, criticalPath);
+        builder.append(",\"nodes\":[");
+        boolean first = true;
+        for (final Node node : nodes.values()) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append("{\"name\":").append(jsonString(node.name))
+                    .append(",\"type\":").append(jsonString(node.typeName))
+                    .append(",\"singleton\":").append(node.singleton)
+                    .append(",\"lazy\":").append(node.lazy)
+                    .append(",\"depth\":").append(node.depth)
+                    .append(",\"fanOut\":").append(node.fanOut)
+                    .append(",\"fanIn\":").append(node.fanIn)
+                    .append('}');
+        }
+        builder.append("],\"edges\":[");
+        first = true;
+        for (final Edge edge : edges) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append("{\"from\":").append(jsonString(edge.from))
+                    .append(",\"to\":").append(jsonString(edge.to))
+                    .append(",\"kind\":").append(jsonString(edge.kind.name()))
+                    .append(",\"injectionPoint\":").append(jsonString(edge.injectionPoint))
+                    .append('}');
+        }
+        builder.append("],\"problems\":[");
+        first = true;
+        for (final Problem problem : problems) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append("{\"kind\":").append(jsonString(problem.kind.name()))
+                    .append(",\"beanNames\":");
+            appendJsonArray(builder, problem.beanNames);
+            builder.append(",\"message\":").append(jsonString(problem.message)).append('}');
+        }
+        builder.append("]}");
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(64 + problems.size() * 64);
+        builder.append(nodes.size()).append(" beans, ").append(edges.size()).append(" dependencies, max depth ")
+                .append(getMaxDepth()).append(", max fan-out ").append(getMaxFanOut());
+        for (final Problem problem : problems) {
+            builder.append("\n  ").append(problem);
+        }
+        return builder.toString();
+    }
+
+    private Set<String> getProblemBeanNames() {
+        final Set<String> beanNames = new HashSet<>(problems.size() * 4);
+        for (final Problem problem : problems) {
+            beanNames.addAll(problem.beanNames);
+        }
+        return beanNames;
+    }
+
+    private static String quote(String value) {
+        return '"' + escape(value) + '"';
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static void appendJsonArray(StringBuilder builder, List<String> values) {
+        builder.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(jsonString(values.get(i)));
+        }
+        builder.append(']');
+    }
+
+    private static String jsonString(String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2);
+        builder.append('"');
+        char c;
+        for (int i = 0; i < value.length(); i++) {
+            c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * <p>Node</p>
+     *
+     * <p>Created on 2026/10/17 22:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public static final class Node {
+
+        private final String name;
+        private final String typeName;
+        private final boolean singleton;
+        private final boolean lazy;
+        int depth;
+        int fanOut;
+        int fanIn;
+
+        Node(@NotNull String name, @NotNull String typeName, boolean singleton, boolean lazy) {
+            this.name = name;
+            this.typeName = typeName;
+            this.singleton = singleton;
+            this.lazy = lazy;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        @NotNull
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public boolean isSingleton() {
+            return singleton;
+        }
+
+        public boolean isLazy() {
+            return lazy;
+        }
+
+        /**
+         * @return 最长依赖链的长度，不依赖其他 bean 时为 0
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * @return 直接依赖的 bean 数量
+         */
+        public int getFanOut() {
+            return fanOut;
+        }
+
+        /**
+         * @return 直接依赖该 bean 的 bean 数量
+         */
+        public int getFanIn() {
+            return fanIn;
+        }
+    }
+
+    /**
+     * <p>EdgeKind</p>
+     *
+     * <p>Created on 2026/10/17 22:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public enum EdgeKind {
+        CONSTRUCTOR,
+        /**
+         * 字段或方法注入，单例之间的此类循环依赖可以通过早期实例解决
+         */
+        FIELD,
+        /**
+         * {@link team.idealstate.hyper.context.ioc.ObjectFactory} 注入，创建时不会解析其目标
+         */
+        DEFERRED
+    }
+
+    /**
+     * <p>Edge</p>
+     *
+     * <p>Created on 2026/10/17 22:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public static final class Edge {
+
+        private final String from;
+        private final String to;
+        private final EdgeKind kind;
+        private final String injectionPoint;
+
+        Edge(@NotNull String from, @NotNull String to, @NotNull EdgeKind kind, @NotNull String injectionPoint) {
+            this.from = from;
+            this.to = to;
+            this.kind = kind;
+            this.injectionPoint = injectionPoint;
+        }
+
+        /**
+         * @return 依赖方的 bean 名称
+         */
+        @NotNull
+        public String getFrom() {
+            return from;
+        }
+
+        /**
+         * @return 被依赖的 bean 名称
+         */
+        @NotNull
+        public String getTo() {
+            return to;
+        }
+
+        @NotNull
+        public EdgeKind getKind() {
+            return kind;
+        }
+
+        @NotNull
+        public String getInjectionPoint() {
+            return injectionPoint;
+        }
+    }
+
+    /**
+     * <p>ProblemKind</p>
+     *
+     * <p>Created on 2026/10/17 22:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public enum ProblemKind {
+        /**
+         * 构造器之间或涉及原型 bean 的循环依赖，创建时将抛出 {@link team.idealstate.hyper.context.ioc.exception.bean.CircularDependencyException}
+         */
+        CIRCULAR_DEPENDENCY,
+        /**
+         * 必需的依赖没有任何候选
+         */
+        UNSATISFIED_DEPENDENCY,
+        /**
+         * 依赖按名称无法匹配且按类型存在多个候选，注入哪一个是不确定的，依赖图中只包含指向名称最小的候选的边
+         */
+        AMBIGUOUS_DEPENDENCY
+    }
+
+    /**
+     * <p>Problem</p>
+     *
+     * <p>Created on 2026/10/17 22:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public static final class Problem {
+
+        private final ProblemKind kind;
+        private final List<String> beanNames;
+        private final String message;
+
+        Problem(@NotNull ProblemKind kind, @NotNull List<String> beanNames, @NotNull String message) {
+            this.kind = kind;
+            this.beanNames = List.copyOf(beanNames);
+            this.message = message;
+        }
+
+        @NotNull
+        public ProblemKind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return 涉及的 bean 名称，循环依赖时按依赖顺序排列
+         */
+        @NotNull
+        public List<String> getBeanNames() {
+            return beanNames;
+        }
+
+        @NotNull
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return kind + ": " + message;
+        }
+    }
+}
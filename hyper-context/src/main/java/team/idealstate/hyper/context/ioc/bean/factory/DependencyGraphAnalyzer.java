@@ -0,0 +1,406 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * <p>DependencyGraphAnalyzer</p>
+ * 按与 {@link DependencyDescriptor#resolve(AbstractAutowireableBeanFactory)} 相同的规则，
+ * 仅根据 bean 定义与注入计划构建 {@link DependencyGraph}<br>
+ * 只会为已注册的定义匹配候选，父工厂仅在本地无法满足依赖时被查询<br>
+ * 与运行时相同，使用第一个必需依赖均可满足的候选构造器，均无法满足时报告首选构造器的问题
+ *
+ * <p>Created on 2026/10/17 22:00</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class DependencyGraphAnalyzer {
+
+    private final AbstractAutowireableBeanFactory beanFactory;
+    private final Map<String, DependencyGraph.Node> nodes = new TreeMap<>();
+    private final List<DependencyGraph.Edge> edges = new ArrayList<>(128);
+    private final List<DependencyGraph.Problem> problems = new ArrayList<>(8);
+
+    DependencyGraphAnalyzer(@NotNull AbstractAutowireableBeanFactory beanFactory) {
+        Asserts.notNull(beanFactory, "beanFactory");
+        this.beanFactory = beanFactory;
+    }
+
+    @NotNull
+    DependencyGraph analyze() {
+        final List<BeanDefinition> beanDefinitions = new ArrayList<>(beanFactory.beanDefinitionRegistry.getBeanDefinitions());
+        beanDefinitions.sort(Comparator.comparing(BeanDefinition::getName));
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            nodes.put(beanDefinition.getName(), new DependencyGraph.Node(beanDefinition.getName(),
+                    beanDefinition.getTypeReference().getReferenceType().getTypeName(),
+                    beanDefinition.isSingleton(), beanDefinition.isLazy()));
+        }
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            if (!beanFactory.isProvidedBean(beanDefinition.getName())) {
+                collectEdges(beanDefinition);
+            }
+        }
+
+        final List<String> names = new ArrayList<>(nodes.keySet());
+        final Map<String, Integer> indexes = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < names.size(); i++) {
+            indexes.put(names.get(i), i);
+        }
+        final List<Set<Integer>> successors = new ArrayList<>(names.size());
+        final List<Set<Integer>> hardSuccessors = new ArrayList<>(names.size());
+        final List<Set<Integer>> allSuccessors = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            successors.add(new LinkedHashSet<>(4));
+            hardSuccessors.add(new LinkedHashSet<>(4));
+            allSuccessors.add(new LinkedHashSet<>(4));
+        }
+        int from;
+        int to;
+        for (final DependencyGraph.Edge edge : edges) {
+            from = indexes.get(edge.getFrom());
+            to = indexes.get(edge.getTo());
+            allSuccessors.get(from).add(to);
+            if (edge.getKind() == DependencyGraph.EdgeKind.DEFERRED) {
+                continue;
+            }
+            successors.get(from).add(to);
+            if (edge.getKind() == DependencyGraph.EdgeKind.CONSTRUCTOR || !nodes.get(edge.getFrom()).isSingleton()) {
+                hardSuccessors.get(from).add(to);
+            }
+        }
+        for (int i = 0; i < names.size(); i++) {
+            nodes.get(names.get(i)).fanOut = allSuccessors.get(i).size();
+            for (final int successor : allSuccessors.get(i)) {
+                nodes.get(names.get(successor)).fanIn++;
+            }
+        }
+        collectCycles(names, hardSuccessors);
+        final int[] depths = computeDepths(successors);
+        for (int i = 0; i < names.size(); i++) {
+            nodes.get(names.get(i)).depth = depths[i];
+        }
+        return new DependencyGraph(nodes, edges, problems, criticalPath(names, successors, depths));
+    }
+
+    private void collectEdges(BeanDefinition beanDefinition) {
+        final String beanName = beanDefinition.getName();
+        if (!(beanDefinition.getTypeReference().getReferenceType() instanceof Class<?>)) {
+            return;
+        }
+        final Class<?> beanType = beanDefinition.getType();
+        final List<ConstructorInjectionPlan.Candidate> candidates;
+        try {
+            candidates = beanFactory.getInjectionPlan(beanType).getCandidates();
+        } catch (RuntimeException e) {
+            problems.add(new DependencyGraph.Problem(DependencyGraph.ProblemKind.UNSATISFIED_DEPENDENCY,
+                    List.of(beanName), beanName + " has no usable constructor: " + e.getMessage()));
+            return;
+        }
+        List<DependencyGraph.Edge> constructorEdges = null;
+        List<DependencyGraph.Problem> constructorProblems = null;
+        for (final ConstructorInjectionPlan.Candidate candidate : candidates) {
+            final List<DependencyGraph.Edge> candidateEdges = new ArrayList<>(4);
+            final List<DependencyGraph.Problem> candidateProblems = new ArrayList<>(2);
+            boolean satisfied = true;
+            for (final DependencyDescriptor dependency : candidate.getDependencies()) {
+                satisfied &= collectEdges(beanName, dependency, DependencyGraph.EdgeKind.CONSTRUCTOR,
+                        candidateEdges, candidateProblems);
+            }
+            if (satisfied || constructorEdges == null) {
+                constructorEdges = candidateEdges;
+                constructorProblems = candidateProblems;
+            }
+            if (satisfied) {
+                break;
+            }
+        }
+        edges.addAll(constructorEdges);
+        problems.addAll(constructorProblems);
+        final List<DependencyDescriptor> fieldDependencies;
+        try {
+            fieldDependencies = beanFactory.getInjectionMetadata(beanType).getDependencies();
+        } catch (RuntimeException e) {
+            problems.add(new DependencyGraph.Problem(DependencyGraph.ProblemKind.UNSATISFIED_DEPENDENCY,
+                    List.of(beanName), beanName + " has an invalid injection point: " + e.getMessage()));
+            return;
+        }
+        for (final DependencyDescriptor dependency : fieldDependencies) {
+            collectEdges(beanName, dependency, DependencyGraph.EdgeKind.FIELD, edges, problems);
+        }
+    }
+
+    /**
+     * @return 依赖是否可以满足
+     */
+    private boolean collectEdges(
+            String beanName,
+            DependencyDescriptor dependency,
+            DependencyGraph.EdgeKind kind,
+            List<DependencyGraph.Edge> edges,
+            List<DependencyGraph.Problem> problems
+    ) {
+        final DependencyDescriptor deferredDependency = dependency.getDeferredDependency();
+        if (deferredDependency != null) {
+            dependency = deferredDependency;
+            kind = DependencyGraph.EdgeKind.DEFERRED;
+        }
+        final String injectionPoint = dependency.getName();
+        final List<String> targets = resolveTargets(beanName, dependency, problems);
+        if (targets == null) {
+            return false;
+        }
+        for (final String target : targets) {
+            edges.add(new DependencyGraph.Edge(beanName, target, kind, injectionPoint));
+        }
+        return true;
+    }
+
+    /**
+     * @return 依赖的目标 bean 名称，由父工厂满足时为空，必需的依赖无法满足时为 null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<String> resolveTargets(
+            String beanName,
+            DependencyDescriptor dependency,
+            List<DependencyGraph.Problem> problems
+    ) {
+        final String dependencyName = dependency.getName();
+        final BeanDefinition named = dependencyName.isBlank()
+                ? null
+                : beanFactory.beanDefinitionRegistry.getBeanDefinition(dependencyName);
+        if (named != null && dependency.getTypeReference().isAssignableFrom(named.getTypeReference().getReferenceType())) {
+            return List.of(dependencyName);
+        }
+        final BeanFactory parentBeanFactory = beanFactory.getParentBeanFactory();
+        if (named == null && parentBeanFactory instanceof HierarchicalBeanFactory that &&
+                !dependencyName.isBlank() && that.containsLocalBean(dependencyName)) {
+            return Collections.emptyList();
+        }
+        if (!dependency.isQualified()) {
+            final List<String> candidates = namesOf(beanFactory.beanDefinitionRegistry.getBeanDefinitions(dependency.getType()));
+            if (candidates.size() > 1) {
+                problems.add(new DependencyGraph.Problem(DependencyGraph.ProblemKind.AMBIGUOUS_DEPENDENCY,
+                        List.of(beanName), beanName + "#" + dependencyName + " of type " +
+                        dependency.getType().getTypeName() + " matches " + candidates));
+                // 运行时只会注入其中一个，只连接名称最小的候选以免虚增深度或误报循环依赖
+                return candidates.subList(0, 1);
+            }
+            if (!candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+        final Type elementType = dependency.getElementType();
+        if (elementType != null) {
+            return namesOf(beanFactory.beanDefinitionRegistry.getBeanDefinitions(elementType));
+        }
+        if (parentBeanFactory != null &&
+                !parentBeanFactory.getBeans((TypeReference) dependency.getTypeReference()).isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (dependency.isRequired()) {
+            problems.add(new DependencyGraph.Problem(DependencyGraph.ProblemKind.UNSATISFIED_DEPENDENCY,
+                    List.of(beanName), beanName + "#" + dependencyName + " of type " +
+                    dependency.getType().getTypeName() + " has no candidate"));
+            return null;
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<String> namesOf(List<BeanDefinition> beanDefinitions) {
+        if (beanDefinitions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> names = new ArrayList<>(beanDefinitions.size());
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            names.add(beanDefinition.getName());
+        }
+        names.sort(null);
+        return names;
+    }
+
+    /**
+     * 在构造器依赖与原型 bean 的依赖组成的子图中查找强连通分量（Tarjan），它们无法通过早期实例解决
+     */
+    private void collectCycles(List<String> names, List<Set<Integer>> successors) {
+        final int size = names.size();
+        final int[] index = new int[size];
+        final int[] lowLink = new int[size];
+        final boolean[] onStack = new boolean[size];
+        Arrays.fill(index, -1);
+        final Deque<Integer> stack = new ArrayDeque<>(16);
+        final Deque<int[]> frames = new ArrayDeque<>(16);
+        final List<Iterator<Integer>> iterators = new ArrayList<>(Collections.nCopies(size, null));
+        int counter = 0;
+        for (int root = 0; root < size; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            frames.push(new int[]{root});
+            index[root] = lowLink[root] = counter++;
+            stack.push(root);
+            onStack[root] = true;
+            iterators.set(root, successors.get(root).iterator());
+            while (!frames.isEmpty()) {
+                final int node = frames.peek()[0];
+                final Iterator<Integer> iterator = iterators.get(node);
+                if (iterator.hasNext()) {
+                    final int successor = iterator.next();
+                    if (index[successor] < 0) {
+                        index[successor] = lowLink[successor] = counter++;
+                        stack.push(successor);
+                        onStack[successor] = true;
+                        iterators.set(successor, successors.get(successor).iterator());
+                        frames.push(new int[]{successor});
+                    } else if (onStack[successor]) {
+                        lowLink[node] = Math.min(lowLink[node], index[successor]);
+                    }
+                    continue;
+                }
+                frames.pop();
+                if (!frames.isEmpty()) {
+                    final int parent = frames.peek()[0];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+                if (lowLink[node] != index[node]) {
+                    continue;
+                }
+                final Set<Integer> component = new HashSet<>(4);
+                int member;
+                do {
+                    member = stack.pop();
+                    onStack[member] = false;
+                    component.add(member);
+                } while (member != node);
+                if (component.size() > 1 || successors.get(node).contains(node)) {
+                    final List<String> cycle = findCycle(names, successors, component);
+                    problems.add(new DependencyGraph.Problem(DependencyGraph.ProblemKind.CIRCULAR_DEPENDENCY,
+                            cycle, "circular dependency: " + String.join(" -> ", cycle) + " -> " + cycle.get(0)));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 强连通分量中从名称最小的 bean 出发并回到它的一条最短环路
+     */
+    private static List<String> findCycle(List<String> names, List<Set<Integer>> successors, Set<Integer> component) {
+        final int start = Collections.min(component);
+        final Map<Integer, Integer> previous = new HashMap<>(component.size() * 2);
+        final Deque<Integer> queue = new ArrayDeque<>(component.size());
+        queue.add(start);
+        int last = start;
+        search:
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (final int successor : successors.get(node)) {
+                if (successor == start) {
+                    last = node;
+                    break search;
+                }
+                if (component.contains(successor) && !previous.containsKey(successor)) {
+                    previous.put(successor, node);
+                    queue.add(successor);
+                }
+            }
+        }
+        final LinkedList<String> cycle = new LinkedList<>();
+        for (Integer node = last; node != null && node != start; node = previous.get(node)) {
+            cycle.addFirst(names.get(node));
+        }
+        cycle.addFirst(names.get(start));
+        return cycle;
+    }
+
+    /**
+     * 深度为最长依赖链的长度，环路中回到正在计算的 bean 的依赖将被忽略
+     */
+    private static int[] computeDepths(List<Set<Integer>> successors) {
+        final int size = successors.size();
+        final int[] depths = new int[size];
+        final byte[] states = new byte[size];
+        final Deque<Integer> frames = new ArrayDeque<>(16);
+        final List<Iterator<Integer>> iterators = new ArrayList<>(Collections.nCopies(size, null));
+        for (int root = 0; root < size; root++) {
+            if (states[root] != 0) {
+                continue;
+            }
+            states[root] = 1;
+            iterators.set(root, successors.get(root).iterator());
+            frames.push(root);
+            while (!frames.isEmpty()) {
+                final int node = frames.peek();
+                final Iterator<Integer> iterator = iterators.get(node);
+                if (iterator.hasNext()) {
+                    final int successor = iterator.next();
+                    if (states[successor] == 0) {
+                        states[successor] = 1;
+                        iterators.set(successor, successors.get(successor).iterator());
+                        frames.push(successor);
+                    } else if (states[successor] == 2) {
+                        depths[node] = Math.max(depths[node], depths[successor] + 1);
+                    }
+                    continue;
+                }
+                frames.pop();
+                states[node] = 2;
+                iterators.set(node, null);
+                if (!frames.isEmpty()) {
+                    final int parent = frames.peek();
+                    depths[parent] = Math.max(depths[parent], depths[node] + 1);
+                }
+            }
+        }
+        return depths;
+    }
+
+    private static List<String> criticalPath(List<String> names, List<Set<Integer>> successors, int[] depths) {
+        if (names.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int node = 0;
+        for (int i = 1; i < depths.length; i++) {
+            if (depths[i] > depths[node]) {
+                node = i;
+            }
+        }
+        final List<String> path = new ArrayList<>(depths[node] + 1);
+        path.add(names.get(node));
+        while (depths[node] > 0) {
+            int next = -1;
+            for (final int successor : successors.get(node)) {
+                if (depths[successor] == depths[node] - 1) {
+                    next = successor;
+                    break;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            node = next;
+            path.add(names.get(node));
+        }
+        return path;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+
+/**
+ * <p>HierarchicalBeanFactory</p>
+ * 拥有父工厂的 bean 工厂，自身未定义的 bean 将委托给父工厂查找<br>
+ * 父工厂对子工厂只读，子工厂中的同名 bean 会遮蔽父工厂中的 bean
+ *
+ * <p>Created on 2026/10/17 18:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public interface HierarchicalBeanFactory extends BeanFactory {
+
+    @Nullable
+    BeanFactory getParentBeanFactory();
+
+    /**
+     * @param beanName bean 名称
+     * @return 当前工厂（不包括父工厂）是否定义了该 bean
+     */
+    boolean containsLocalBean(@NotNull String beanName);
+}
@@ -0,0 +1,209 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.order.OrderComparator;
+import team.idealstate.hyper.context.ioc.annotation.Autowired;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * <p>InjectionMetadata</p>
+ * 一个 bean 类型中标注了 {@link Autowired} 的字段与方法，解析后绑定为预先适配的 {@link MethodHandle}<br>
+ * 父类的注入点先于子类注入，每个实例的注入只需解析依赖并依次调用它们
+ *
+ * <p>Created on 2026/10/17 20:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class InjectionMetadata {
+
+    private static final MethodType SINGLE_INJECTION_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType MULTIPLE_INJECTION_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+    private static final String SETTER_PREFIX = "set";
+
+    private final InjectionPoint[] injectionPoints;
+
+    InjectionMetadata(@NotNull Class<?> beanType) {
+        Asserts.notNull(beanType, "beanType");
+        final Deque<List<InjectionPoint>> hierarchy = new ArrayDeque<>(4);
+        final Set<String> overriddenMethods = new HashSet<>(8);
+        for (Class<?> type = beanType; type != null && type != Object.class; type = type.getSuperclass()) {
+            final List<InjectionPoint> injectionPoints = new ArrayList<>(4);
+            for (final Field field : type.getDeclaredFields()) {
+                if (field.getDeclaredAnnotation(Autowired.class) != null) {
+                    injectionPoints.add(toInjectionPoint(field));
+                }
+            }
+            final List<Method> methods = new ArrayList<>(4);
+            for (final Method method : type.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                // 被子类重写的方法只会通过子类的方法注入一次
+                if (!Modifier.isPrivate(method.getModifiers()) &&
+                        !overriddenMethods.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                if (method.getDeclaredAnnotation(Autowired.class) != null) {
+                    methods.add(method);
+                }
+            }
+            methods.sort(OrderComparator.reflectElement());
+            for (final Method method : methods) {
+                injectionPoints.add(toInjectionPoint(method));
+            }
+            hierarchy.addFirst(injectionPoints);
+        }
+        final List<InjectionPoint> injectionPoints = new ArrayList<>(8);
+        hierarchy.forEach(injectionPoints::addAll);
+        this.injectionPoints = injectionPoints.toArray(new InjectionPoint[0]);
+    }
+
+    boolean isEmpty() {
+        return injectionPoints.length == 0;
+    }
+
+    /**
+     * @return 注入点依赖，用于依赖分析
+     */
+    @NotNull
+    List<DependencyDescriptor> getDependencies() {
+        if (injectionPoints.length == 0) {
+            return Collections.emptyList();
+        }
+        final List<DependencyDescriptor> dependencies = new ArrayList<>(injectionPoints.length);
+        for (final InjectionPoint injectionPoint : injectionPoints) {
+            dependencies.addAll(List.of(injectionPoint.dependencies));
+        }
+        return dependencies;
+    }
+
+    /**
+     * 解析每个注入点的依赖并注入
+     *
+     * @param beanFactory bean 工厂
+     * @param beanObject  bean 实例
+     */
+    void inject(@NotNull AbstractAutowireableBeanFactory beanFactory, @NotNull Object beanObject) {
+        try {
+            for (final InjectionPoint injectionPoint : injectionPoints) {
+                final DependencyDescriptor[] dependencies = injectionPoint.dependencies;
+                if (dependencies.length == 1) {
+                    injectionPoint.methodHandle.invokeExact(beanObject, dependencies[0].resolve(beanFactory));
+                    continue;
+                }
+                final Object[] arguments = new Object[dependencies.length];
+                for (int i = 0; i < dependencies.length; i++) {
+                    arguments[i] = dependencies[i].resolve(beanFactory);
+                }
+                injectionPoint.methodHandle.invokeExact(beanObject, arguments);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static InjectionPoint toInjectionPoint(Field field) {
+        final int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+            throw new IllegalArgumentException("autowired field must not be static or final: " + field);
+        }
+        field.setAccessible(true);
+        final MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        return new InjectionPoint(
+                new DependencyDescriptor[]{new DependencyDescriptor(field.getName(), field.getGenericType(), field)},
+                methodHandle.asType(SINGLE_INJECTION_TYPE)
+        );
+    }
+
+    private static InjectionPoint toInjectionPoint(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalArgumentException("autowired method must not be static: " + method);
+        }
+        final Parameter[] parameters = method.getParameters();
+        if (parameters.length == 0) {
+            throw new IllegalArgumentException("autowired method must have parameters: " + method);
+        }
+        final DependencyDescriptor[] dependencies = new DependencyDescriptor[parameters.length];
+        Parameter parameter;
+        for (int i = 0; i < parameters.length; i++) {
+            parameter = parameters[i];
+            dependencies[i] = new DependencyDescriptor(
+                    resolveParameterName(method, parameter), parameter.getParameterizedType(), parameter);
+        }
+        method.setAccessible(true);
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        if (method.getReturnType() != void.class) {
+            methodHandle = MethodHandles.dropReturn(methodHandle);
+        }
+        if (parameters.length == 1) {
+            return new InjectionPoint(dependencies, methodHandle.asType(SINGLE_INJECTION_TYPE));
+        }
+        return new InjectionPoint(dependencies,
+                methodHandle.asSpreader(Object[].class, parameters.length).asType(MULTIPLE_INJECTION_TYPE));
+    }
+
+    /**
+     * 编译时未保留参数名称时，单参数的 setter 以其属性名称作为依赖名称
+     */
+    private static String resolveParameterName(Method method, Parameter parameter) {
+        final String methodName = method.getName();
+        if (!parameter.isNamePresent() && method.getParameterCount() == 1 &&
+                methodName.length() > SETTER_PREFIX.length() && methodName.startsWith(SETTER_PREFIX)) {
+            final String propertyName = methodName.substring(SETTER_PREFIX.length());
+            if (propertyName.length() > 1 && Character.isUpperCase(propertyName.charAt(1))) {
+                return propertyName;
+            }
+            return Character.toLowerCase(propertyName.charAt(0)) + propertyName.substring(1);
+        }
+        return parameter.getName();
+    }
+
+    private static final class InjectionPoint {
+
+        private final DependencyDescriptor[] dependencies;
+        private final MethodHandle methodHandle;
+
+        private InjectionPoint(DependencyDescriptor[] dependencies, MethodHandle methodHandle) {
+            this.dependencies = dependencies;
+            this.methodHandle = methodHandle;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.unsafe.UnsafeWrapper;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * <p>LazyProxyGenerator</p>
+ * 通过 ASM 为依赖类型生成延迟代理隐藏类，接口生成实现类，非 final 的类生成子类<br>
+ * 代理实例不会调用任何构造器，所有可重写的方法都委托给 {@link LazyTarget} 提供的目标对象，
+ * 因此 final 方法与字段访问不会被代理
+ *
+ * <p>Created on 2026/10/17 18:00</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+abstract class LazyProxyGenerator {
+
+    private static final String PROXY_SUFFIX = "$$HyperLazyProxy";
+    private static final String TARGET_FIELD_NAME = "$$lazyTarget";
+    private static final String LAZY_TARGET_INTERNAL_NAME = Type.getInternalName(LazyTarget.class);
+    private static final String LAZY_TARGET_DESCRIPTOR = Type.getDescriptor(LazyTarget.class);
+
+    /**
+     * @param type 依赖类型
+     * @return 生成的代理类型，无法为该类型生成时返回 null
+     */
+    @Nullable
+    static LazyProxyType generate(@NotNull Class<?> type) {
+        Asserts.notNull(type, "type");
+        if (!isProxiable(type)) {
+            return null;
+        }
+        MethodHandles.Lookup lookup;
+        String proxyName = Type.getInternalName(type) + PROXY_SUFFIX;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            if (!lookup.hasFullPrivilegeAccess() || !isVisible(type.getClassLoader())) {
+                lookup = null;
+            }
+        } catch (IllegalAccessException | SecurityException e) {
+            lookup = null;
+        }
+        if (lookup == null) {
+            // 如 java.util.List 等无法在其所在包中定义代理的公开接口，代理定义在当前包中
+            if (!type.isInterface() || !Modifier.isPublic(type.getModifiers())) {
+                return null;
+            }
+            lookup = MethodHandles.lookup();
+            proxyName = Type.getInternalName(LazyProxyGenerator.class) + "$" + type.getSimpleName() + PROXY_SUFFIX;
+        }
+        try {
+            final byte[] bytecode = generateBytecode(type, proxyName, collectMethods(type));
+            final MethodHandles.Lookup proxyLookup = lookup.defineHiddenClass(bytecode, true);
+            final Class<?> proxyClass = proxyLookup.lookupClass();
+            return new LazyProxyType(proxyClass,
+                    proxyLookup.findVarHandle(proxyClass, TARGET_FIELD_NAME, LazyTarget.class));
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static boolean isProxiable(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isHidden() || type.isSealed() || type.isAnnotation()) {
+            return false;
+        }
+        return type.isInterface() || !Modifier.isFinal(type.getModifiers());
+    }
+
+    private static boolean isVisible(ClassLoader classLoader) {
+        try {
+            return Class.forName(LazyTarget.class.getName(), false, classLoader) == LazyTarget.class;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return 需要代理的方法，按名称与描述符去重
+     */
+    private static Collection<Method> collectMethods(Class<?> type) {
+        final Map<String, Method> methods = new LinkedHashMap<>(64);
+        final Set<String> finalMethods = new HashSet<>(16);
+        if (type.isInterface()) {
+            for (final Method method : type.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    methods.putIfAbsent(method.getName() + Type.getMethodDescriptor(method), method);
+                }
+            }
+            for (final Method method : Object.class.getMethods()) {
+                if (!Modifier.isFinal(method.getModifiers())) {
+                    methods.putIfAbsent(method.getName() + Type.getMethodDescriptor(method), method);
+                }
+            }
+            return methods.values();
+        }
+        final String packageName = type.getPackageName();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final boolean samePackage = current.getPackageName().equals(packageName) &&
+                    current.getClassLoader() == type.getClassLoader();
+            for (final Method method : current.getDeclaredMethods()) {
+                collectMethod(methods, finalMethods, method, samePackage);
+            }
+        }
+        for (final Method method : type.getMethods()) {
+            // 接口中的默认方法与未实现的抽象方法
+            if (method.getDeclaringClass().isInterface()) {
+                collectMethod(methods, finalMethods, method, false);
+            }
+        }
+        return methods.values();
+    }
+
+    private static void collectMethod(Map<String, Method> methods, Set<String> finalMethods, Method method, boolean samePackage) {
+        final int modifiers = method.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers)) {
+            return;
+        }
+        final String key = method.getName() + Type.getMethodDescriptor(method);
+        if (Modifier.isFinal(modifiers)) {
+            finalMethods.add(key);
+            return;
+        }
+        if (finalMethods.contains(key)) {
+            return;
+        }
+        // 包私有方法只能在同一运行时包中重写，受保护方法只能通过子类自身调用，因此只代理同一包中声明的
+        if (!Modifier.isPublic(modifiers) && !samePackage) {
+            return;
+        }
+        methods.putIfAbsent(key, method);
+    }
+
+    private static byte[] generateBytecode(Class<?> type, String proxyName, Collection<Method> methods) {
+        final String typeInternalName = Type.getInternalName(type);
+        final boolean isInterface = type.isInterface();
+        final ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                proxyName, null,
+                isInterface ? "java/lang/Object" : typeInternalName,
+                isInterface ? new String[]{typeInternalName} : null);
+        classWriter.visitField(Opcodes.ACC_PRIVATE, TARGET_FIELD_NAME, LAZY_TARGET_DESCRIPTOR, null, null).visitEnd();
+
+        MethodVisitor methodVisitor;
+        String[] exceptions;
+        Class<?>[] exceptionTypes;
+        for (final Method method : methods) {
+            exceptionTypes = method.getExceptionTypes();
+            exceptions = new String[exceptionTypes.length];
+            for (int i = 0; i < exceptionTypes.length; i++) {
+                exceptions[i] = Type.getInternalName(exceptionTypes[i]);
+            }
+            final int access = method.getModifiers() & (Opcodes.ACC_PUBLIC | Opcodes.ACC_PROTECTED | Opcodes.ACC_VARARGS);
+            final String descriptor = Type.getMethodDescriptor(method);
+            methodVisitor = classWriter.visitMethod(access, method.getName(), descriptor, null, exceptions);
+            methodVisitor.visitCode();
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, proxyName, TARGET_FIELD_NAME, LAZY_TARGET_DESCRIPTOR);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, LAZY_TARGET_INTERNAL_NAME,
+                    "getTarget", "()Ljava/lang/Object;", true);
+            final boolean objectMethod = method.getDeclaringClass() == Object.class;
+            if (!objectMethod) {
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, typeInternalName);
+            }
+            int slot = 1;
+            for (final Class<?> parameterType : method.getParameterTypes()) {
+                final Type parameter = Type.getType(parameterType);
+                methodVisitor.visitVarInsn(parameter.getOpcode(Opcodes.ILOAD), slot);
+                slot += parameter.getSize();
+            }
+            if (objectMethod) {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/Object",
+                        method.getName(), descriptor, false);
+            } else if (isInterface) {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, typeInternalName,
+                        method.getName(), descriptor, true);
+            } else {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, typeInternalName,
+                        method.getName(), descriptor, false);
+            }
+            methodVisitor.visitInsn(Type.getReturnType(method).getOpcode(Opcodes.IRETURN));
+            methodVisitor.visitMaxs(0, 0);
+            methodVisitor.visitEnd();
+        }
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    /**
+     * <p>LazyProxyType</p>
+     *
+     * <p>Created on 2026/10/17 18:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    static final class LazyProxyType {
+
+        private final Class<?> proxyClass;
+        private final VarHandle targetField;
+
+        private LazyProxyType(Class<?> proxyClass, VarHandle targetField) {
+            this.proxyClass = proxyClass;
+            this.targetField = targetField;
+        }
+
+        /**
+         * @param lazyTarget 代理委托的目标
+         * @return 未调用任何构造器的代理实例
+         */
+        @NotNull
+        Object newProxy(@NotNull LazyTarget lazyTarget) {
+            final Object proxy;
+            try {
+                proxy = UnsafeWrapper.UNSAFE.allocateInstance(proxyClass);
+            } catch (InstantiationException e) {
+                throw new IllegalStateException(e);
+            }
+            targetField.setRelease(proxy, lazyTarget);
+            return proxy;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+
+/**
+ * <p>LazyTarget</p>
+ * 由 {@link LazyProxyGenerator} 生成的延迟代理所委托的目标，代理的每次方法调用都会通过它获取目标对象<br>
+ * 该接口仅供生成的隐藏类调用，因此必须是公开的
+ *
+ * <p>Created on 2026/10/17 18:00</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public interface LazyTarget {
+
+    /**
+     * @return 目标对象，首次调用时创建
+     */
+    @NotNull
+    Object getTarget();
+}
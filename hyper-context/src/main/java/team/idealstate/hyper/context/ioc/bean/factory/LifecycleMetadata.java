@@ -0,0 +1,260 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.StringUtils;
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.order.OrderComparator;
+import team.idealstate.hyper.context.ioc.annotation.DestroyMethod;
+import team.idealstate.hyper.context.ioc.annotation.InitMethod;
+import team.idealstate.hyper.context.ioc.annotation.ResetMethod;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>LifecycleMetadata</p>
+ * 一个 bean 类型的初始化、销毁与重置方法，解析后缓存为预先绑定的 {@link MethodHandle}<br>
+ * 每个实例的初始化与销毁只需依次调用它们
+ *
+ * <p>Created on 2026/10/17 11:50</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class LifecycleMetadata {
+
+    private static final MethodType LIFECYCLE_METHOD_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final MethodType ASYNC_INIT_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle[] EMPTY = new MethodHandle[0];
+    private static final AsyncInitMethod[] NO_ASYNC_INIT_METHODS = new AsyncInitMethod[0];
+    /**
+     * 未指定方法名称时使用的缓存键
+     */
+    private static final String UNNAMED = "";
+
+    private final Class<?> beanType;
+    private final List<Method> initMethods;
+    private final List<Method> destroyMethods;
+    private final MethodHandle[] resetHandles;
+    private final Map<String, MethodHandle[]> initHandles = new ConcurrentHashMap<>(4);
+    private final Map<String, MethodHandle[]> destroyHandles = new ConcurrentHashMap<>(4);
+    private final Map<String, AsyncInitMethod[]> asyncInitMethods = new ConcurrentHashMap<>(4);
+
+    LifecycleMetadata(@NotNull Class<?> beanType) {
+        Asserts.notNull(beanType, "beanType");
+        this.beanType = beanType;
+        final Method[] declaredMethods = beanType.getDeclaredMethods();
+        this.initMethods = resolveAnnotatedMethods(declaredMethods, InitMethod.class);
+        this.destroyMethods = resolveAnnotatedMethods(declaredMethods, DestroyMethod.class);
+        this.resetHandles = resolveHandles(resolveAnnotatedMethods(declaredMethods, ResetMethod.class), UNNAMED, true);
+    }
+
+    /**
+     * @param methodName bean 定义中指定的初始化方法名称
+     * @return 按调用顺序排列的同步初始化方法
+     */
+    @NotNull
+    MethodHandle[] getInitMethods(@Nullable String methodName) {
+        return getHandles(initHandles, initMethods, methodName, false);
+    }
+
+    /**
+     * @param methodName bean 定义中指定的初始化方法名称
+     * @return 按调用顺序排列的异步初始化方法，在所有同步初始化方法之后调用
+     */
+    @NotNull
+    AsyncInitMethod[] getAsyncInitMethods(@Nullable String methodName) {
+        final String key = StringUtils.isNullOrBlank(methodName) ? UNNAMED : methodName;
+        AsyncInitMethod[] methods = asyncInitMethods.get(key);
+        if (methods == null) {
+            final List<AsyncInitMethod> resolved = new ArrayList<>(2);
+            for (final Method method : resolveMethods(initMethods, key)) {
+                if (isAsyncInitMethod(method)) {
+                    final InitMethod initMethod = method.getDeclaredAnnotation(InitMethod.class);
+                    resolved.add(new AsyncInitMethod(toHandle(method, ASYNC_INIT_METHOD_TYPE),
+                            initMethod != null && initMethod.async()));
+                }
+            }
+            methods = resolved.isEmpty() ? NO_ASYNC_INIT_METHODS : resolved.toArray(NO_ASYNC_INIT_METHODS);
+            final AsyncInitMethod[] previous = asyncInitMethods.putIfAbsent(key, methods);
+            if (previous != null) {
+                methods = previous;
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * @param methodName bean 定义中指定的销毁方法名称
+     * @return 按调用顺序排列的销毁方法
+     */
+    @NotNull
+    MethodHandle[] getDestroyMethods(@Nullable String methodName) {
+        return getHandles(destroyHandles, destroyMethods, methodName, true);
+    }
+
+    /**
+     * @return 按调用顺序排列的重置方法
+     */
+    @NotNull
+    MethodHandle[] getResetMethods() {
+        return resetHandles;
+    }
+
+    static void invoke(@NotNull MethodHandle[] methodHandles, @NotNull Object beanObject) {
+        try {
+            for (final MethodHandle methodHandle : methodHandles) {
+                methodHandle.invokeExact(beanObject);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private MethodHandle[] getHandles(
+            Map<String, MethodHandle[]> cache,
+            List<Method> annotatedMethods,
+            String methodName,
+            boolean includeAsync
+    ) {
+        final String key = StringUtils.isNullOrBlank(methodName) ? UNNAMED : methodName;
+        MethodHandle[] methodHandles = cache.get(key);
+        if (methodHandles == null) {
+            methodHandles = resolveHandles(annotatedMethods, key, includeAsync);
+            final MethodHandle[] previous = cache.putIfAbsent(key, methodHandles);
+            if (previous != null) {
+                methodHandles = previous;
+            }
+        }
+        return methodHandles;
+    }
+
+    /**
+     * @param includeAsync 是否包括异步初始化方法，只有初始化方法需要区分
+     */
+    private MethodHandle[] resolveHandles(List<Method> annotatedMethods, String methodName, boolean includeAsync) {
+        final List<MethodHandle> methodHandles = new ArrayList<>(annotatedMethods.size() + 1);
+        for (final Method method : resolveMethods(annotatedMethods, methodName)) {
+            if (includeAsync || !isAsyncInitMethod(method)) {
+                methodHandles.add(toHandle(method, LIFECYCLE_METHOD_TYPE));
+            }
+        }
+        return methodHandles.isEmpty() ? EMPTY : methodHandles.toArray(EMPTY);
+    }
+
+    private List<Method> resolveMethods(List<Method> annotatedMethods, String methodName) {
+        final List<Method> methods = new ArrayList<>(annotatedMethods.size() + 1);
+        if (!UNNAMED.equals(methodName)) {
+            try {
+                methods.add(beanType.getDeclaredMethod(methodName));
+            } catch (NoSuchMethodException ignored) {}
+        }
+        for (final Method annotatedMethod : annotatedMethods) {
+            if (!annotatedMethod.getName().equals(methodName)) {
+                methods.add(annotatedMethod);
+            }
+        }
+        return methods;
+    }
+
+    private static boolean isAsyncInitMethod(Method method) {
+        if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+            return true;
+        }
+        final InitMethod initMethod = method.getDeclaredAnnotation(InitMethod.class);
+        return initMethod != null && initMethod.async();
+    }
+
+    private static MethodHandle toHandle(Method method, MethodType methodType) {
+        if (method.getParameterCount() != 0) {
+            throw new IllegalArgumentException("lifecycle method must not have parameters: " + method);
+        }
+        method.setAccessible(true);
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+        return methodHandle.asType(methodType);
+    }
+
+    private static List<Method> resolveAnnotatedMethods(
+            Method[] declaredMethods,
+            Class<? extends Annotation> annotationType
+    ) {
+        final List<Method> methods = new ArrayList<>(declaredMethods.length / 2);
+        for (final Method declaredMethod : declaredMethods) {
+            if (declaredMethod.getDeclaredAnnotation(annotationType) != null) {
+                methods.add(declaredMethod);
+            }
+        }
+        methods.sort(OrderComparator.reflectElement());
+        return methods;
+    }
+
+    /**
+     * 一个异步初始化方法，调用结果为 {@link CompletionStage} 时表示其完成
+     */
+    static final class AsyncInitMethod {
+
+        private final MethodHandle methodHandle;
+        private final boolean runOnExecutor;
+
+        private AsyncInitMethod(MethodHandle methodHandle, boolean runOnExecutor) {
+            this.methodHandle = methodHandle;
+            this.runOnExecutor = runOnExecutor;
+        }
+
+        /**
+         * @return 是否需要在初始化执行器中调用，反之则在当前线程调用并等待其返回的 {@link CompletionStage}
+         */
+        boolean isRunOnExecutor() {
+            return runOnExecutor;
+        }
+
+        /**
+         * @param beanObject bean 实例
+         * @return 方法返回的 {@link CompletionStage}，方法没有返回时为 null
+         */
+        @Nullable
+        CompletionStage<?> invoke(@NotNull Object beanObject) {
+            final Object result;
+            try {
+                result = methodHandle.invokeExact(beanObject);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+            return result instanceof CompletionStage<?> that ? that : null;
+        }
+    }
+}
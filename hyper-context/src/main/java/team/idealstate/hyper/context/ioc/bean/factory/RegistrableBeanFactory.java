@@ -18,6 +18,9 @@ package team.idealstate.hyper.context.ioc.bean.factory;
 
 import team.idealstate.hyper.commons.lang.NotNull;
 import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+
+import java.util.Collection;
 
 /**
  * <p>RegistrableBeanFactory</p>
@@ -29,6 +32,28 @@ import team.idealstate.hyper.commons.generic.TypeReference;
  */
 public interface RegistrableBeanFactory extends BeanFactory {
 
+    /**
+     * 注册一个已定义好的 bean，不再通过 {@link team.idealstate.hyper.context.ioc.bean.definition.BeanDefinitionDefiner} 解析
+     *
+     * @param beanDefinition bean 定义
+     */
+    void registerBean(@NotNull BeanDefinition beanDefinition);
+
+    /**
+     * 批量注册已定义好的 bean，所有名称校验通过后才会一次性发布，任一名称冲突时不会注册任何 bean
+     *
+     * @param beanDefinitions bean 定义
+     */
+    void registerBeans(@NotNull Collection<? extends BeanDefinition> beanDefinitions);
+
+    /**
+     * 批量定义并注册 bean，数量较多时将并行定义
+     *
+     * @param beanTypes bean 类型
+     * @see #registerBeans(Collection)
+     */
+    void registerBeanTypes(@NotNull Collection<? extends Class<?>> beanTypes);
+
     void registerBean(@NotNull Class<?> beanType);
 
     void registerBean(@NotNull TypeReference<?> beanTypeReference);
@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>ScopedBeans</p>
+ * 一个作用域（线程或任务）内的 bean 实例，作用域结束后按创建顺序的逆序交由调用者销毁
+ *
+ * <p>Created on 2026/10/17 16:10</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class ScopedBeans {
+
+    private final Map<String, ScopedBean> scopedBeans = new LinkedHashMap<>(8);
+    private boolean ended;
+
+    @Nullable
+    synchronized ScopedBean get(@NotNull String beanName) {
+        return scopedBeans.get(beanName);
+    }
+
+    /**
+     * @param beanDefinition bean 定义
+     * @param beanObject     已初始化的实例
+     * @return 作用域内已存在的实例，不存在时返回放入的实例，作用域已结束时返回 null
+     */
+    @Nullable
+    synchronized Object putIfAbsent(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
+        if (ended) {
+            return null;
+        }
+        final ScopedBean scopedBean = scopedBeans.get(beanDefinition.getName());
+        if (scopedBean != null) {
+            return scopedBean.beanObject;
+        }
+        scopedBeans.put(beanDefinition.getName(), new ScopedBean(beanDefinition, beanObject));
+        return beanObject;
+    }
+
+    /**
+     * 结束作用域，之后不能再放入实例
+     *
+     * @return 按创建顺序的逆序排列的实例，需由调用者销毁
+     */
+    @NotNull
+    synchronized List<ScopedBean> end() {
+        ended = true;
+        if (scopedBeans.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<ScopedBean> ended = new ArrayList<>(scopedBeans.values());
+        scopedBeans.clear();
+        Collections.reverse(ended);
+        return ended;
+    }
+
+    static final class ScopedBean {
+
+        final BeanDefinition beanDefinition;
+        final Object beanObject;
+
+        private ScopedBean(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
+            this.beanDefinition = beanDefinition;
+            this.beanObject = beanObject;
+        }
+
+        boolean isAssignableTo(@NotNull TypeReference<?> beanTypeReference) {
+            return beanTypeReference.isAssignableFrom(beanDefinition.getTypeReference().getReferenceType());
+        }
+    }
+}
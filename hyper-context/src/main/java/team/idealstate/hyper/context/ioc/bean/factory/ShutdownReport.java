@@ -0,0 +1,191 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>ShutdownReport</p>
+ * 一次清理中单例的销毁结果，记录每个 bean 的销毁耗时以及超出时限、销毁失败与未被销毁的 bean
+ *
+ * <p>Created on 2026/10/17 21:00</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class ShutdownReport {
+
+    private final List<Entry> entries;
+    private final long elapsedNanos;
+
+    ShutdownReport(@NotNull List<Entry> entries, long elapsedNanos) {
+        Asserts.notNull(entries, "entries");
+        this.entries = List.copyOf(entries);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return 按销毁完成的先后排列的结果，未被销毁的 bean 位于末尾
+     */
+    @NotNull
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return 销毁耗时超出单个 bean 时限的 bean 名称
+     */
+    @NotNull
+    public List<String> getTimedOutBeanNames() {
+        return getBeanNames(Status.TIMED_OUT);
+    }
+
+    /**
+     * @return 销毁方法抛出异常的 bean 名称
+     */
+    @NotNull
+    public List<String> getFailedBeanNames() {
+        return getBeanNames(Status.FAILED);
+    }
+
+    /**
+     * @return 因超出总时限而未被销毁的 bean 名称
+     */
+    @NotNull
+    public List<String> getSkippedBeanNames() {
+        return getBeanNames(Status.SKIPPED);
+    }
+
+    /**
+     * @return 所有 bean 是否均在时限内销毁成功
+     */
+    public boolean isCompleted() {
+        for (final Entry entry : entries) {
+            if (entry.status != Status.DESTROYED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    private List<String> getBeanNames(Status status) {
+        final List<String> beanNames = new ArrayList<>(4);
+        for (final Entry entry : entries) {
+            if (entry.status == status) {
+                beanNames.add(entry.beanName);
+            }
+        }
+        return beanNames;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(64 + entries.size() * 32);
+        builder.append("shutdown of ").append(entries.size()).append(" singletons took ")
+                .append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(" ms");
+        for (final Entry entry : entries) {
+            if (entry.status != Status.DESTROYED) {
+                builder.append("\n  ").append(entry);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * <p>Status</p>
+     *
+     * <p>Created on 2026/10/17 21:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public enum Status {
+        DESTROYED,
+        /**
+         * 超出单个 bean 的时限，依赖它的 bean 不再等待其销毁完成
+         */
+        TIMED_OUT,
+        FAILED,
+        /**
+         * 超出总时限时尚未开始销毁
+         */
+        SKIPPED
+    }
+
+    /**
+     * <p>Entry</p>
+     *
+     * <p>Created on 2026/10/17 21:00</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public static final class Entry {
+
+        private final String beanName;
+        private final Status status;
+        private final long elapsedNanos;
+        private final Throwable failure;
+
+        Entry(@NotNull String beanName, @NotNull Status status, long elapsedNanos, @Nullable Throwable failure) {
+            Asserts.hasText(beanName, "beanName");
+            Asserts.notNull(status, "status");
+            this.beanName = beanName;
+            this.status = status;
+            this.elapsedNanos = elapsedNanos;
+            this.failure = failure;
+        }
+
+        @NotNull
+        public String getBeanName() {
+            return beanName;
+        }
+
+        @NotNull
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return 销毁耗时，未被销毁时为 0，超时且仍未完成时为至报告生成时的等待时间
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Nullable
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        @Override
+        public String toString() {
+            return beanName + ": " + status + " after " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms"
+                    + (failure == null ? "" : " (" + failure + ")");
+        }
+    }
+}
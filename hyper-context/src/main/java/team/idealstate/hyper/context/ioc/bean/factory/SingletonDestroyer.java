@@ -0,0 +1,262 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <p>SingletonDestroyer</p>
+ * 按依赖的逆序销毁单例：一个 bean 只有在所有依赖它的 bean 销毁后才会被销毁，互不依赖的 bean 可以并行销毁<br>
+ * 超出单个 bean 时限的销毁不再被等待，超出总时限后尚未开始的销毁将被跳过
+ *
+ * <p>Created on 2026/10/17 21:00</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class SingletonDestroyer {
+
+    private static final Executor CALLER_RUNS = Runnable::run;
+
+    private final Map<String, Node> nodes = new LinkedHashMap<>(64);
+
+    void add(@NotNull BeanDefinition beanDefinition, @NotNull Object beanObject) {
+        Asserts.notNull(beanDefinition, "beanDefinition");
+        Asserts.notNull(beanObject, "beanObject");
+        nodes.put(beanDefinition.getName(), new Node(beanDefinition, beanObject));
+    }
+
+    boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * @param dependencyResolver 解析 bean 所依赖的其他 bean 的名称
+     */
+    void resolveDependencies(@NotNull Function<BeanDefinition, Collection<String>> dependencyResolver) {
+        Asserts.notNull(dependencyResolver, "dependencyResolver");
+        Node dependency;
+        for (final Node node : nodes.values()) {
+            for (final String dependencyName : dependencyResolver.apply(node.beanDefinition)) {
+                dependency = nodes.get(dependencyName);
+                if (dependency == null || dependency == node || node.dependencies.contains(dependency)) {
+                    continue;
+                }
+                node.dependencies.add(dependency);
+                dependency.pendingDependents++;
+            }
+        }
+    }
+
+    /**
+     * @param destroyer        销毁单个 bean
+     * @param executor         用于并行销毁的执行器，为 null 时在当前线程中逐个销毁
+     * @param beanTimeoutNanos 单个 bean 的时限，小于等于 0 时不限制
+     * @param totalTimeoutNanos 总时限，小于等于 0 时不限制
+     * @return 销毁结果
+     */
+    @NotNull
+    ShutdownReport destroy(
+            @NotNull BiConsumer<BeanDefinition, Object> destroyer,
+            @Nullable Executor executor,
+            long beanTimeoutNanos,
+            long totalTimeoutNanos
+    ) {
+        Asserts.notNull(destroyer, "destroyer");
+        final long start = System.nanoTime();
+        final long beanTimeout = beanTimeoutNanos <= 0 ? Long.MAX_VALUE : beanTimeoutNanos;
+        final long totalTimeout = totalTimeoutNanos <= 0 ? Long.MAX_VALUE : totalTimeoutNanos;
+        final Executor destroyExecutor = executor == null ? CALLER_RUNS : executor;
+        final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        final Map<String, ShutdownReport.Entry> entries = new LinkedHashMap<>(nodes.size() * 2);
+        final Deque<Node> ready = new ArrayDeque<>(nodes.size());
+        final List<Node> running = new ArrayList<>(16);
+        for (final Node node : nodes.values()) {
+            if (node.pendingDependents == 0) {
+                ready.add(node);
+            }
+        }
+        long now = start;
+        Completion completion;
+        while (true) {
+            while (!ready.isEmpty() && now - start < totalTimeout) {
+                final Node node = ready.poll();
+                node.startedAt = now;
+                running.add(node);
+                final Runnable task = () -> {
+                    Throwable failure = null;
+                    try {
+                        destroyer.accept(node.beanDefinition, node.beanObject);
+                    } catch (Throwable e) {
+                        failure = e;
+                    }
+                    completions.add(new Completion(node, System.nanoTime(), failure));
+                };
+                try {
+                    destroyExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
+                }
+                now = System.nanoTime();
+            }
+            if (running.isEmpty()) {
+                if (!ready.isEmpty()) {
+                    break;
+                }
+                // 剩余的 bean 之间存在循环依赖，从最先注册的开始销毁
+                final Node node = firstUnstarted();
+                if (node == null) {
+                    break;
+                }
+                ready.add(node);
+                continue;
+            }
+            long waitNanos = totalTimeout - (now - start);
+            for (final Node node : running) {
+                waitNanos = Math.min(waitNanos, beanTimeout - (now - node.startedAt));
+            }
+            try {
+                completion = completions.poll(Math.max(waitNanos, 0L), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            while (completion != null) {
+                complete(completion, beanTimeout, entries, ready, running);
+                completion = completions.poll();
+            }
+            now = System.nanoTime();
+            final Iterator<Node> iterator = running.iterator();
+            while (iterator.hasNext()) {
+                final Node node = iterator.next();
+                if (now - node.startedAt >= beanTimeout) {
+                    // 不再等待该 bean，依赖它的 bean 之后的销毁照常进行，其迟到的完成仍会被记录
+                    iterator.remove();
+                    entries.put(node.beanName(), new ShutdownReport.Entry(
+                            node.beanName(), ShutdownReport.Status.TIMED_OUT, now - node.startedAt, null));
+                    release(node, ready);
+                }
+            }
+            if (now - start >= totalTimeout) {
+                break;
+            }
+        }
+        while ((completion = completions.poll()) != null) {
+            complete(completion, beanTimeout, entries, ready, running);
+        }
+        now = System.nanoTime();
+        for (final Node node : running) {
+            entries.put(node.beanName(), new ShutdownReport.Entry(
+                    node.beanName(), ShutdownReport.Status.TIMED_OUT, now - node.startedAt, null));
+        }
+        for (final Node node : nodes.values()) {
+            if (node.startedAt == Node.UNSTARTED) {
+                entries.put(node.beanName(), new ShutdownReport.Entry(
+                        node.beanName(), ShutdownReport.Status.SKIPPED, 0L, null));
+            }
+        }
+        return new ShutdownReport(new ArrayList<>(entries.values()), now - start);
+    }
+
+    private void complete(
+            Completion completion,
+            long beanTimeout,
+            Map<String, ShutdownReport.Entry> entries,
+            Deque<Node> ready,
+            List<Node> running
+    ) {
+        final Node node = completion.node;
+        final long elapsed = completion.completedAt - node.startedAt;
+        final ShutdownReport.Status status;
+        if (node.released || elapsed > beanTimeout) {
+            status = ShutdownReport.Status.TIMED_OUT;
+        } else if (completion.failure != null) {
+            status = ShutdownReport.Status.FAILED;
+        } else {
+            status = ShutdownReport.Status.DESTROYED;
+        }
+        entries.put(node.beanName(), new ShutdownReport.Entry(node.beanName(), status, elapsed, completion.failure));
+        running.remove(node);
+        if (!node.released) {
+            release(node, ready);
+        }
+    }
+
+    private static void release(Node node, Deque<Node> ready) {
+        node.released = true;
+        for (final Node dependency : node.dependencies) {
+            if (--dependency.pendingDependents == 0 && dependency.startedAt == Node.UNSTARTED) {
+                ready.add(dependency);
+            }
+        }
+    }
+
+    private Node firstUnstarted() {
+        for (final Node node : nodes.values()) {
+            if (node.startedAt == Node.UNSTARTED) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static final class Node {
+
+        private static final long UNSTARTED = Long.MIN_VALUE;
+
+        private final BeanDefinition beanDefinition;
+        private final Object beanObject;
+        private final List<Node> dependencies = new ArrayList<>(4);
+        private int pendingDependents;
+        private long startedAt = UNSTARTED;
+        private boolean released;
+
+        private Node(BeanDefinition beanDefinition, Object beanObject) {
+            this.beanDefinition = beanDefinition;
+            this.beanObject = beanObject;
+        }
+
+        private String beanName() {
+            return beanDefinition.getName();
+        }
+    }
+
+    private static final class Completion {
+
+        private final Node node;
+        private final long completedAt;
+        private final Throwable failure;
+
+        private Completion(Node node, long completedAt, Throwable failure) {
+            this.node = node;
+            this.completedAt = completedAt;
+            this.failure = failure;
+        }
+    }
+}
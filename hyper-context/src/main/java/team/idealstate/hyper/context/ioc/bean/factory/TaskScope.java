@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.util.concurrent.Callable;
+
+/**
+ * <p>TaskScope</p>
+ * 由 {@link AbstractCreatableBeanFactory#openTaskScope()} 开启的任务作用域，开启后绑定至当前线程<br>
+ * 通过 {@link #wrap(Runnable)} 包装的任务在任意线程（包括虚拟线程）中执行时共享该作用域内的实例，
+ * 作用域关闭时其中的实例将被销毁
+ *
+ * <p>Created on 2026/10/17 16:10</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private final AbstractCreatableBeanFactory beanFactory;
+    private final TaskScope previous;
+    private final ScopedBeans scopedBeans = new ScopedBeans();
+    private volatile boolean closed;
+
+    TaskScope(@NotNull AbstractCreatableBeanFactory beanFactory, @Nullable TaskScope previous) {
+        this.beanFactory = beanFactory;
+        this.previous = previous;
+    }
+
+    /**
+     * @param task 任务
+     * @return 执行期间将本作用域绑定至执行线程的任务
+     */
+    @NotNull
+    public Runnable wrap(@NotNull Runnable task) {
+        Asserts.notNull(task, "task");
+        return () -> {
+            final TaskScope bound = beanFactory.bindTaskScope(this);
+            try {
+                task.run();
+            } finally {
+                beanFactory.bindTaskScope(bound);
+            }
+        };
+    }
+
+    /**
+     * @param task 任务
+     * @return 执行期间将本作用域绑定至执行线程的任务
+     */
+    @NotNull
+    public <V> Callable<V> wrap(@NotNull Callable<V> task) {
+        Asserts.notNull(task, "task");
+        return () -> {
+            final TaskScope bound = beanFactory.bindTaskScope(this);
+            try {
+                return task.call();
+            } finally {
+                beanFactory.bindTaskScope(bound);
+            }
+        };
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 销毁作用域内的实例，若本作用域仍绑定在当前线程上则恢复开启前绑定的作用域
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        beanFactory.closeTaskScope(this);
+    }
+
+    @Nullable
+    TaskScope getPrevious() {
+        return previous;
+    }
+
+    @NotNull
+    ScopedBeans getScopedBeans() {
+        return scopedBeans;
+    }
+}
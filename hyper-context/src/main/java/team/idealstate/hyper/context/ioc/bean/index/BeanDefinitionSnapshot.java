@@ -0,0 +1,299 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.index;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.definition.IndexedBeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.factory.RegistrableBeanFactory;
+
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * <p>BeanDefinitionSnapshot</p>
+ * 将刷新成功后的 bean 定义写入带版本的二进制快照，之后的启动可直接读取快照而无需扫描类路径与解析注解<br>
+ * 读取时校验 bean 所在 jar 包的大小与修改时间，以及不在这些 jar 包中的 bean 类文件的校验和，任一不一致时快照失效
+ *
+ * <p>Created on 2026/10/17 20:10</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class BeanDefinitionSnapshot {
+
+    public static final int SNAPSHOT_VERSION = 2;
+    /**
+     * "HYPS"
+     */
+    private static final int MAGIC = 0x48595053;
+    private static final int SINGLETON = 1;
+    private static final int LAZY = 1 << 1;
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final ClassLoader classLoader;
+
+    public BeanDefinitionSnapshot(@NotNull ClassLoader classLoader) {
+        Asserts.notNull(classLoader, "classLoader");
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * 写入快照，写入过程中的文件不会被读取到
+     *
+     * @param beanDefinitions bean 定义，如 {@code AbstractAutowireableBeanFactory#exportBeanDefinitions()} 的结果
+     * @param snapshotFile    快照文件
+     * @throws IOException 写入失败或 bean 类文件不可读
+     */
+    public void write(@NotNull Collection<IndexedBeanDefinition> beanDefinitions, @NotNull Path snapshotFile) throws IOException {
+        Asserts.notNull(beanDefinitions, "beanDefinitions");
+        Asserts.notNull(snapshotFile, "snapshotFile");
+        final Map<String, Source> sources = new TreeMap<>();
+        final ByteArrayOutputStream beans = new ByteArrayOutputStream(beanDefinitions.size() * 128);
+        final DataOutputStream beansOutput = new DataOutputStream(beans);
+        for (final IndexedBeanDefinition beanDefinition : beanDefinitions) {
+            final Class<?> beanType = beanDefinition.getType();
+            final URL classFile = getClassFile(beanType.getName());
+            if (classFile == null) {
+                throw new IOException("class file of bean type not found: " + beanType.getName());
+            }
+            final String jarPath = getJarPath(classFile);
+            if (jarPath != null && !sources.containsKey(jarPath)) {
+                final Path jar = Path.of(jarPath);
+                sources.put(jarPath, new Source(jarPath, Files.size(jar), Files.getLastModifiedTime(jar).toMillis()));
+            }
+            writeString(beansOutput, beanType.getName());
+            writeString(beansOutput, beanDefinition.getName());
+            beansOutput.writeByte((beanDefinition.isSingleton() ? SINGLETON : 0) | (beanDefinition.isLazy() ? LAZY : 0));
+            writeString(beansOutput, beanDefinition.getInitMethod());
+            writeString(beansOutput, beanDefinition.getDestroyMethod());
+            beansOutput.writeLong(checksum(classFile));
+        }
+        beansOutput.flush();
+
+        final Path directory = snapshotFile.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        final Path temporaryFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (final DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)))
+            ) {
+                output.writeInt(MAGIC);
+                output.writeInt(SNAPSHOT_VERSION);
+                output.writeInt(sources.size());
+                for (final Source source : sources.values()) {
+                    writeString(output, source.path);
+                    output.writeLong(source.size);
+                    output.writeLong(source.lastModified);
+                }
+                output.writeInt(beanDefinitions.size());
+                beans.writeTo(output);
+            }
+            try {
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * @param snapshotFile 快照文件
+     * @return 快照中的 bean 定义，快照不存在、版本不同或已失效时返回 null
+     * @throws IOException 读取失败或快照已损坏
+     */
+    @Nullable
+    public List<IndexedBeanDefinition> read(@NotNull Path snapshotFile) throws IOException {
+        Asserts.notNull(snapshotFile, "snapshotFile");
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        // 读入堆内存而非内存映射，映射在被回收前会一直占用文件，导致之后无法覆盖写入
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        try {
+            if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != MAGIC) {
+                throw new IOException("not a bean definition snapshot: " + snapshotFile);
+            }
+            if (buffer.getInt() != SNAPSHOT_VERSION) {
+                return null;
+            }
+            final int sourceCount = readCount(buffer);
+            final Set<String> verifiedJars = new HashSet<>(sourceCount * 2);
+            for (int i = 0; i < sourceCount; i++) {
+                final String jarPath = readRequiredString(buffer);
+                final Path jar = Path.of(jarPath);
+                final long size = buffer.getLong();
+                final long lastModified = buffer.getLong();
+                if (!Files.isRegularFile(jar) || Files.size(jar) != size ||
+                        Files.getLastModifiedTime(jar).toMillis() != lastModified) {
+                    return null;
+                }
+                verifiedJars.add(jarPath);
+            }
+            final int beanCount = readCount(buffer);
+            final List<IndexedBeanDefinition> beanDefinitions = new ArrayList<>(beanCount);
+            for (int i = 0; i < beanCount; i++) {
+                final String typeName = readRequiredString(buffer);
+                final String beanName = readString(buffer);
+                final int flags = buffer.get();
+                final String initMethod = readString(buffer);
+                final String destroyMethod = readString(buffer);
+                final long checksum = buffer.getLong();
+                final URL classFile = getClassFile(typeName);
+                if (classFile == null) {
+                    return null;
+                }
+                // 大小与修改时间均未变化的 jar 包中的类无需再次打开 jar 包计算校验和
+                final String jarPath = getJarPath(classFile);
+                if ((jarPath == null || !verifiedJars.contains(jarPath)) && checksum(classFile) != checksum) {
+                    return null;
+                }
+                final Class<?> beanType;
+                try {
+                    beanType = Class.forName(typeName, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    return null;
+                }
+                final IndexedBeanDefinition beanDefinition = new IndexedBeanDefinition(
+                        TypeReference.forType(beanType), initMethod, destroyMethod);
+                if (beanName != null) {
+                    beanDefinition.setName(beanName);
+                }
+                beanDefinition.setSingleton((flags & SINGLETON) != 0);
+                beanDefinition.setLazy((flags & LAZY) != 0);
+                beanDefinitions.add(beanDefinition);
+            }
+            return beanDefinitions;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("malformed bean definition snapshot: " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * 读取快照并将其中的所有 bean 注册至指定工厂
+     *
+     * @param beanFactory  bean 工厂
+     * @param snapshotFile 快照文件
+     * @return 注册的 bean 数量，快照不可用时返回 -1 且不会注册任何 bean
+     * @throws IOException 读取失败或快照已损坏
+     */
+    public int load(@NotNull RegistrableBeanFactory beanFactory, @NotNull Path snapshotFile) throws IOException {
+        Asserts.notNull(beanFactory, "beanFactory");
+        final List<IndexedBeanDefinition> beanDefinitions = read(snapshotFile);
+        if (beanDefinitions == null) {
+            return -1;
+        }
+        beanFactory.registerBeans(beanDefinitions);
+        return beanDefinitions.size();
+    }
+
+    private URL getClassFile(String typeName) {
+        return classLoader.getResource(typeName.replace('.', '/') + CLASS_FILE_SUFFIX);
+    }
+
+    private static String getJarPath(URL classFile) throws IOException {
+        if (!"jar".equals(classFile.getProtocol())) {
+            return null;
+        }
+        final URLConnection connection = classFile.openConnection();
+        if (connection instanceof JarURLConnection that) {
+            try {
+                return new File(that.getJarFileURL().toURI()).getPath();
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        return null;
+    }
+
+    private static long checksum(URL classFile) throws IOException {
+        final URLConnection connection = classFile.openConnection();
+        connection.setUseCaches(false);
+        final CRC32 crc32 = new CRC32();
+        try (final InputStream inputStream = connection.getInputStream()) {
+            crc32.update(inputStream.readAllBytes());
+        }
+        return crc32.getValue();
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        final int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException("malformed bean definition snapshot");
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        final int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("malformed bean definition snapshot");
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readRequiredString(ByteBuffer buffer) throws IOException {
+        final String value = readString(buffer);
+        if (value == null) {
+            throw new IOException("malformed bean definition snapshot");
+        }
+        return value;
+    }
+
+    private static final class Source {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        private Source(String path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
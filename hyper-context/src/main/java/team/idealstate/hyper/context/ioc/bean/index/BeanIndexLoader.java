@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.index;
+
+import team.idealstate.hyper.commons.StringUtils;
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.definition.IndexedBeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.factory.RegistrableBeanFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * <p>BeanIndexLoader</p>
+ * 读取由 hyper-context-processor 在编译期生成的 bean 索引并批量注册 bean 定义<br>
+ * 注册时不会读取 {@link team.idealstate.hyper.context.ioc.annotation.Bean} 等注解，类型也仅会加载而不会初始化
+ *
+ * <p>Created on 2026/10/17 13:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class BeanIndexLoader {
+
+    public static final String INDEX_LOCATION = "META-INF/hyper/beans.idx";
+    public static final int INDEX_VERSION = 2;
+    private static final String INDEX_HEADER = "hyper-beans " + INDEX_VERSION;
+    private static final int FIELD_COUNT = 5;
+
+    private final ClassLoader classLoader;
+
+    public BeanIndexLoader(@NotNull ClassLoader classLoader) {
+        Asserts.notNull(classLoader, "classLoader");
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return 类加载器可见的所有索引中的 bean 定义，同一类型只会出现一次
+     * @throws IOException 读取索引失败
+     */
+    @NotNull
+    public List<IndexedBeanDefinition> loadBeanDefinitions() throws IOException {
+        final Set<String> loadedTypes = new HashSet<>(64);
+        final List<IndexedBeanDefinition> beanDefinitions = new ArrayList<>(64);
+        final Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+        URL resource;
+        while (resources.hasMoreElements()) {
+            resource = resources.nextElement();
+            try (final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))
+            ) {
+                final String header = reader.readLine();
+                if (!INDEX_HEADER.equals(header)) {
+                    throw new IOException("unsupported bean index " + resource + ": " + header);
+                }
+                String line;
+                int lineNumber = 1;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    final String[] fields = line.split("\t", -1);
+                    if (fields.length != FIELD_COUNT) {
+                        throw new IOException("malformed bean index " + resource + " at line " + lineNumber);
+                    }
+                    if (loadedTypes.add(fields[0])) {
+                        beanDefinitions.add(toBeanDefinition(fields));
+                    }
+                }
+            }
+        }
+        return beanDefinitions;
+    }
+
+    /**
+     * 读取索引并将其中的所有 bean 注册至指定工厂
+     *
+     * @param beanFactory bean 工厂
+     * @return 注册的 bean 数量
+     * @throws IOException 读取索引失败
+     */
+    public int load(@NotNull RegistrableBeanFactory beanFactory) throws IOException {
+        Asserts.notNull(beanFactory, "beanFactory");
+        final List<IndexedBeanDefinition> beanDefinitions = loadBeanDefinitions();
+        beanFactory.registerBeans(beanDefinitions);
+        return beanDefinitions.size();
+    }
+
+    private IndexedBeanDefinition toBeanDefinition(String[] fields) throws IOException {
+        final Class<?> beanType;
+        try {
+            beanType = Class.forName(fields[0], false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("indexed bean type not found: " + fields[0], e);
+        }
+        final String flags = fields[2];
+        final IndexedBeanDefinition beanDefinition = new IndexedBeanDefinition(
+                TypeReference.forType(beanType),
+                StringUtils.isNullOrBlank(fields[3]) ? null : fields[3],
+                StringUtils.isNullOrBlank(fields[4]) ? null : fields[4]
+        );
+        if (!StringUtils.isNullOrBlank(fields[1])) {
+            beanDefinition.setName(fields[1]);
+        }
+        beanDefinition.setSingleton(flags.indexOf('P') < 0);
+        beanDefinition.setLazy(flags.indexOf('L') >= 0);
+        return beanDefinition;
+    }
+}
@@ -19,7 +19,6 @@ package team.idealstate.hyper.context.ioc.bean.registry;
 import team.idealstate.hyper.commons.lang.NotNull;
 import team.idealstate.hyper.commons.lang.Nullable;
 import team.idealstate.hyper.commons.asserts.Asserts;
-import team.idealstate.hyper.commons.generic.TypeReference;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
 import team.idealstate.hyper.context.ioc.bean.definition.ConfigurableBeanDefinition;
 import team.idealstate.hyper.context.ioc.exception.NameAlreadyBoundException;
@@ -38,7 +37,8 @@ import java.util.*;
 public abstract class AbstractBeanDefinitionRegistry implements BeanDefinitionRegistry {
 
     private final Map<String, BeanDefinition> byName = new HashMap<>(128);
-    private final Map<TypeReference<?>, List<BeanDefinition>> byType = new HashMap<>(128);
+    private final BeanTypeIndex<BeanDefinition> byType = new BeanTypeIndex<>(128);
+    private volatile Snapshot snapshot;
 
     @NotNull
     protected abstract String generateBeanName(@NotNull BeanDefinition beanDefinition);
@@ -47,6 +47,7 @@ public abstract class AbstractBeanDefinitionRegistry implements BeanDefinitionRe
     public void registerBeanDefinition(@NotNull BeanDefinition beanDefinition) {
         Asserts.notNull(beanDefinition, "beanDefinition");
         synchronized (byName) {
+            throwExIfFrozen();
             String beanName = beanDefinition.getName();
             if (beanName == null) {
                 beanName = generateBeanName(beanDefinition);
@@ -57,9 +58,41 @@ public abstract class AbstractBeanDefinitionRegistry implements BeanDefinitionRe
             }
             ((ConfigurableBeanDefinition) beanDefinition).setName(beanName);
             byName.put(beanName, beanDefinition);
-            final List<BeanDefinition> beanDefinitionsByType =
-                    byType.computeIfAbsent(beanDefinition.getTypeReference(), k -> new ArrayList<>(8));
-            beanDefinitionsByType.add(beanDefinition);
+            byType.add(beanDefinition.getTypeReference(), beanDefinition);
+        }
+    }
+
+    @Override
+    public void registerBeanDefinitions(@NotNull Collection<? extends BeanDefinition> beanDefinitions) {
+        Asserts.notNull(beanDefinitions, "beanDefinitions");
+        if (beanDefinitions.isEmpty()) {
+            return;
+        }
+        final Map<String, BeanDefinition> batch = new LinkedHashMap<>(beanDefinitions.size() * 2);
+        String beanName;
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            Asserts.notNull(beanDefinition, "beanDefinition");
+            beanName = beanDefinition.getName();
+            if (beanName == null) {
+                beanName = generateBeanName(beanDefinition);
+                Asserts.hasText(beanName, "beanName");
+            }
+            if (batch.putIfAbsent(beanName, beanDefinition) != null) {
+                throw new NameAlreadyBoundException(beanName);
+            }
+        }
+        synchronized (byName) {
+            throwExIfFrozen();
+            for (final String name : batch.keySet()) {
+                if (byName.containsKey(name)) {
+                    throw new NameAlreadyBoundException(name);
+                }
+            }
+            for (final Map.Entry<String, BeanDefinition> entry : batch.entrySet()) {
+                ((ConfigurableBeanDefinition) entry.getValue()).setName(entry.getKey());
+            }
+            byName.putAll(batch);
+            byType.addAll(batch.values(), BeanDefinition::getTypeReference);
         }
     }
 
@@ -67,6 +100,10 @@ public abstract class AbstractBeanDefinitionRegistry implements BeanDefinitionRe
     @Override
     public BeanDefinition getBeanDefinition(@NotNull String beanName) {
         Asserts.hasText(beanName, "beanName");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.byName.get(beanName);
+        }
         synchronized (byName) {
             return byName.get(beanName);
         }
@@ -76,26 +113,22 @@ public abstract class AbstractBeanDefinitionRegistry implements BeanDefinitionRe
     @Override
     public List<BeanDefinition> getBeanDefinitions(@NotNull Type beanType) {
         Asserts.notNull(beanType, "beanType");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.byType.get(beanType);
+        }
         synchronized (byName) {
-            if (!byType.isEmpty()) {
-                final List<BeanDefinition> result = new ArrayList<>(16);
-                final Set<Map.Entry<TypeReference<?>, List<BeanDefinition>>> entries = byType.entrySet();
-                List<BeanDefinition> beanDefinitionsByType;
-                for (final Map.Entry<TypeReference<?>, List<BeanDefinition>> entry : entries) {
-                    if (entry.getKey().isAssignableTo(beanType)) {
-                        beanDefinitionsByType = entry.getValue();
-                        result.addAll(beanDefinitionsByType);
-                    }
-                }
-                return result;
-            }
+            return byType.get(beanType);
         }
-        return Collections.emptyList();
     }
 
     @NotNull
     @Override
     public List<BeanDefinition> getBeanDefinitions() {
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.beanDefinitions;
+        }
         synchronized (byName) {
             if (!byName.isEmpty()) {
                 final List<BeanDefinition> result = new ArrayList<>(64);
@@ -110,18 +143,63 @@ public abstract class AbstractBeanDefinitionRegistry implements BeanDefinitionRe
     @Override
     public boolean containsBeanDefinition(@NotNull String beanName) {
         Asserts.hasText(beanName, "beanName");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.byName.containsKey(beanName);
+        }
         synchronized (byName) {
             return byName.containsKey(beanName);
         }
     }
 
+    /**
+     * 将当前所有 bean 定义压缩为不可变快照，此后的读取无需加锁，注册将被拒绝直至清空
+     */
+    @Override
+    public void freeze() {
+        synchronized (byName) {
+            if (snapshot == null) {
+                snapshot = new Snapshot(Map.copyOf(byName), List.copyOf(byName.values()), byType.freeze());
+            }
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    private void throwExIfFrozen() {
+        if (snapshot != null) {
+            throw new IllegalStateException("the bean definition registry has been frozen");
+        }
+    }
+
     @Override
     public void clear() {
         synchronized (byName) {
+            snapshot = null;
             if (!byName.isEmpty()) {
                 byName.clear();
                 byType.clear();
             }
         }
     }
+
+    private static final class Snapshot {
+
+        private final Map<String, BeanDefinition> byName;
+        private final List<BeanDefinition> beanDefinitions;
+        private final BeanTypeIndex.Frozen<BeanDefinition> byType;
+
+        private Snapshot(
+                Map<String, BeanDefinition> byName,
+                List<BeanDefinition> beanDefinitions,
+                BeanTypeIndex.Frozen<BeanDefinition> byType
+        ) {
+            this.byName = byName;
+            this.beanDefinitions = beanDefinitions;
+            this.byType = byType;
+        }
+    }
 }
@@ -38,7 +38,8 @@ public abstract class AbstractBeanPrototypeRegistry implements BeanPrototypeRegi
 
     private final Map<String, ObjectFactory<?>> prototypeFactoriesByName = new HashMap<>(32);
 
-    private final Map<TypeReference<?>, List<String>> namesByType = new HashMap<>(32);
+    private final BeanTypeIndex<String> namesByType = new BeanTypeIndex<>(32);
+    private volatile Snapshot snapshot;
 
     @Override
     public <T> void registerPrototypeFactory(@NotNull String beanName, @NotNull TypeReference<T> beanTypeReference, @NotNull ObjectFactory<T> objectFactory) {
@@ -46,18 +47,28 @@ public abstract class AbstractBeanPrototypeRegistry implements BeanPrototypeRegi
         Asserts.notNull(beanTypeReference, "beanTypeReference");
         Asserts.notNull(objectFactory, "objectFactory");
         synchronized (prototypeFactoriesByName) {
+            throwExIfFrozen();
             if (containsByName(beanName)) {
                 throw new NameAlreadyBoundException(beanName);
             }
             prototypeFactoriesByName.put(beanName, objectFactory);
-            final List<String> namesByType =
-                    this.namesByType.computeIfAbsent(beanTypeReference, k -> new ArrayList<>(8));
-            namesByType.add(beanName);
+            namesByType.add(beanTypeReference, beanName);
         }
     }
 
+    /**
+     * 原型工厂在同步块外调用，避免工厂创建依赖时与其他线程相互等待
+     */
     private Object getPrototypeByNameFromFactory(String beanName) {
-        final ObjectFactory<?> objectFactory = prototypeFactoriesByName.get(beanName);
+        final Snapshot snapshot = this.snapshot;
+        final ObjectFactory<?> objectFactory;
+        if (snapshot != null) {
+            objectFactory = snapshot.prototypeFactories.get(beanName);
+        } else {
+            synchronized (prototypeFactoriesByName) {
+                objectFactory = prototypeFactoriesByName.get(beanName);
+            }
+        }
         if (objectFactory != null) {
             final Object prototype = objectFactory.getObject();
             Asserts.notNull(prototype, "prototype");
@@ -70,53 +81,53 @@ public abstract class AbstractBeanPrototypeRegistry implements BeanPrototypeRegi
     @Override
     public Object getPrototype(@NotNull String beanName) {
         Asserts.hasText(beanName, "beanName");
-        synchronized (prototypeFactoriesByName) {
-            if (containsByName(beanName)) {
-                return getPrototypeByNameFromFactory(beanName);
-            }
-        }
-        return null;
+        return getPrototypeByNameFromFactory(beanName);
     }
 
     @NotNull
     @Override
     public Map<String, Object> getPrototypes(@NotNull Type beanType) {
         Asserts.notNull(beanType, "beanType");
-        synchronized (prototypeFactoriesByName) {
-            if (!prototypeFactoriesByName.isEmpty()) {
-                final Map<String, Object> result = new HashMap<>(8);
-                final Set<Map.Entry<TypeReference<?>, List<String>>> entries = this.namesByType.entrySet();
-                List<String> namesByType;
-                for (final Map.Entry<TypeReference<?>, List<String>> entry : entries) {
-                    if (entry.getKey().isAssignableTo(beanType)) {
-                        namesByType = entry.getValue();
-                        for (final String beanName : namesByType) {
-                            result.put(beanName, getPrototypeByNameFromFactory(beanName));
-                        }
-                    }
-                }
-                return result;
+        final Snapshot snapshot = this.snapshot;
+        final List<String> beanNames;
+        if (snapshot != null) {
+            beanNames = snapshot.namesByType.get(beanType);
+        } else {
+            synchronized (prototypeFactoriesByName) {
+                beanNames = namesByType.get(beanType);
             }
         }
-        return Collections.emptyMap();
+        return getPrototypesByNames(beanNames);
     }
 
     @NotNull
     @Override
     public Map<String, Object> getPrototypes() {
-        synchronized (prototypeFactoriesByName) {
-            if (!prototypeFactoriesByName.isEmpty()) {
-                final Map<String, Object> result = new HashMap<>(16);
-                final Set<Map.Entry<String, ObjectFactory<?>>> entries = prototypeFactoriesByName.entrySet();
-                String beanName;
-                for (final Map.Entry<String, ObjectFactory<?>> entry : entries) {
-                    beanName = entry.getKey();
-                    result.put(beanName, getPrototypeByNameFromFactory(beanName));
-                }
-                return result;
+        final Snapshot snapshot = this.snapshot;
+        final Collection<String> beanNames;
+        if (snapshot != null) {
+            beanNames = snapshot.prototypeFactories.keySet();
+        } else {
+            synchronized (prototypeFactoriesByName) {
+                beanNames = new ArrayList<>(prototypeFactoriesByName.keySet());
+            }
+        }
+        return getPrototypesByNames(beanNames);
+    }
+
+    private Map<String, Object> getPrototypesByNames(Collection<String> beanNames) {
+        if (beanNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Object> result = new HashMap<>(beanNames.size() * 2);
+        Object prototype;
+        for (final String beanName : beanNames) {
+            prototype = getPrototypeByNameFromFactory(beanName);
+            if (prototype != null) {
+                result.put(beanName, prototype);
             }
         }
-        return Collections.emptyMap();
+        return result;
     }
 
     private boolean containsByName(String beanName) {
@@ -126,16 +137,55 @@ public abstract class AbstractBeanPrototypeRegistry implements BeanPrototypeRegi
     @Override
     public boolean containsPrototype(@NotNull String beanName) {
         Asserts.hasText(beanName, "beanName");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.prototypeFactories.containsKey(beanName);
+        }
         synchronized (prototypeFactoriesByName) {
             return containsByName(beanName);
         }
     }
 
+    /**
+     * 将当前所有原型工厂压缩为不可变快照，此后的读取无需加锁，注册将被拒绝直至清空
+     */
+    @Override
+    public void freeze() {
+        synchronized (prototypeFactoriesByName) {
+            if (snapshot == null) {
+                snapshot = new Snapshot(Map.copyOf(prototypeFactoriesByName), namesByType.freeze());
+            }
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    private void throwExIfFrozen() {
+        if (snapshot != null) {
+            throw new IllegalStateException("the bean prototype registry has been frozen");
+        }
+    }
+
     @Override
     public void clear() {
         synchronized (prototypeFactoriesByName) {
+            snapshot = null;
             prototypeFactoriesByName.clear();
             namesByType.clear();
         }
     }
+
+    private static final class Snapshot {
+
+        private final Map<String, ObjectFactory<?>> prototypeFactories;
+        private final BeanTypeIndex.Frozen<String> namesByType;
+
+        private Snapshot(Map<String, ObjectFactory<?>> prototypeFactories, BeanTypeIndex.Frozen<String> namesByType) {
+            this.prototypeFactories = prototypeFactories;
+            this.namesByType = namesByType;
+        }
+    }
 }
@@ -39,7 +39,8 @@ public abstract class AbstractBeanSingletonRegistry implements BeanSingletonRegi
     private final Map<String, Object> singletonsByName = new HashMap<>(58);
     private final Map<String, ObjectFactory<?>> singletonFactoriesByName = new HashMap<>(16);
 
-    private final Map<TypeReference<?>, List<String>> namesByType = new HashMap<>(64);
+    private final BeanTypeIndex<String> namesByType = new BeanTypeIndex<>(64);
+    private volatile Snapshot snapshot;
 
     @Override
     public <T> void registerSingleton(@NotNull String beanName, @NotNull TypeReference<T> beanTypeReference, @NotNull T beanObject) {
@@ -47,13 +48,12 @@ public abstract class AbstractBeanSingletonRegistry implements BeanSingletonRegi
         Asserts.notNull(beanTypeReference, "beanTypeReference");
         Asserts.notNull(beanObject, "beanObject");
         synchronized (singletonsByName) {
+            throwExIfFrozen();
             if (containsByName(beanName)) {
                 throw new NameAlreadyBoundException(beanName);
             }
             singletonsByName.put(beanName, beanObject);
-            final List<String> namesByType =
-                    this.namesByType.computeIfAbsent(beanTypeReference, k -> new ArrayList<>(16));
-            namesByType.add(beanName);
+            namesByType.add(beanTypeReference, beanName);
         }
     }
 
@@ -63,32 +63,48 @@ public abstract class AbstractBeanSingletonRegistry implements BeanSingletonRegi
         Asserts.notNull(beanTypeReference, "beanTypeReference");
         Asserts.notNull(objectFactory, "objectFactory");
         synchronized (singletonsByName) {
+            throwExIfFrozen();
             if (containsByName(beanName)) {
                 throw new NameAlreadyBoundException(beanName);
             }
             singletonFactoriesByName.put(beanName, objectFactory);
-            final List<String> namesByType =
-                    this.namesByType.computeIfAbsent(beanTypeReference, k -> new ArrayList<>(16));
-            namesByType.add(beanName);
+            namesByType.add(beanTypeReference, beanName);
         }
     }
 
-    private Object getSingletonByNameFromFactory(String beanName) {
-        final ObjectFactory<?> objectFactory = singletonFactoriesByName.get(beanName);
-        if (objectFactory != null) {
-            final Object singleton = objectFactory.getObject();
-            Asserts.notNull(singleton, "singleton");
-            singletonFactoriesByName.remove(beanName);
-            singletonsByName.put(beanName, singleton);
-            return singleton;
-        }
-        return null;
-    }
-
+    /**
+     * 单例工厂在同步块外调用，避免工厂创建依赖时与其他线程相互等待<br>
+     * 冻结后已创建的单例直接从快照读取，只有冻结时尚未创建的懒加载单例仍需加锁
+     */
     private Object getSingletonByName(String beanName) {
-        Object singleton = singletonsByName.get(beanName);
-        if (singleton == null) {
-            singleton = getSingletonByNameFromFactory(beanName);
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            final Object singleton = snapshot.singletons.get(beanName);
+            if (singleton != null || !snapshot.beanNames.contains(beanName)) {
+                return singleton;
+            }
+        }
+        final ObjectFactory<?> objectFactory;
+        synchronized (singletonsByName) {
+            final Object singleton = singletonsByName.get(beanName);
+            if (singleton != null) {
+                return singleton;
+            }
+            objectFactory = singletonFactoriesByName.get(beanName);
+            if (objectFactory == null) {
+                return null;
+            }
+        }
+        final Object singleton = objectFactory.getObject();
+        Asserts.notNull(singleton, "singleton");
+        synchronized (singletonsByName) {
+            final Object existing = singletonsByName.get(beanName);
+            if (existing != null) {
+                return existing;
+            }
+            if (singletonFactoriesByName.remove(beanName) != null) {
+                singletonsByName.put(beanName, singleton);
+            }
         }
         return singleton;
     }
@@ -97,58 +113,57 @@ public abstract class AbstractBeanSingletonRegistry implements BeanSingletonRegi
     @Override
     public Object getSingleton(@NotNull String beanName) {
         Asserts.hasText(beanName, "beanName");
-        synchronized (singletonsByName) {
-            if (containsByName(beanName)) {
-                return getSingletonByName(beanName);
-            }
-        }
-        return null;
+        return getSingletonByName(beanName);
     }
 
     @NotNull
     @Override
     public Map<String, Object> getSingletons(@NotNull Type beanType) {
         Asserts.notNull(beanType, "beanType");
-        synchronized (singletonsByName) {
-            if (!namesByType.isEmpty()) {
-                final Map<String, Object> result = new HashMap<>(16);
-                final Set<Map.Entry<TypeReference<?>, List<String>>> entries = this.namesByType.entrySet();
-                List<String> namesByType;
-                for (final Map.Entry<TypeReference<?>, List<String>> entry : entries) {
-                    if (entry.getKey().isAssignableTo(beanType)) {
-                        namesByType = entry.getValue();
-                        for (final String beanName : namesByType) {
-                            result.put(beanName, getSingletonByName(beanName));
-                        }
-                    }
-                }
-                return result;
+        final Snapshot snapshot = this.snapshot;
+        final List<String> beanNames;
+        if (snapshot != null) {
+            beanNames = snapshot.namesByType.get(beanType);
+        } else {
+            synchronized (singletonsByName) {
+                beanNames = namesByType.get(beanType);
             }
         }
-        return Collections.emptyMap();
+        return getSingletonsByNames(beanNames);
     }
 
     @NotNull
     @Override
     public Map<String, Object> getSingletons() {
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return getSingletonsByNames(snapshot.beanNames);
+        }
+        final List<String> beanNames;
         synchronized (singletonsByName) {
-            if (!namesByType.isEmpty()) {
-                final Map<String, Object> result = new HashMap<>(32);
-                if (!singletonsByName.isEmpty()) {
-                    result.putAll(singletonsByName);
-                }
-                if (!singletonFactoriesByName.isEmpty()) {
-                    final Set<Map.Entry<String, ObjectFactory<?>>> entries = singletonFactoriesByName.entrySet();
-                    String beanName;
-                    for (final Map.Entry<String, ObjectFactory<?>> entry : entries) {
-                        beanName = entry.getKey();
-                        result.put(beanName, getSingletonByNameFromFactory(beanName));
-                    }
-                }
-                return result;
+            if (singletonsByName.isEmpty() && singletonFactoriesByName.isEmpty()) {
+                return Collections.emptyMap();
             }
+            beanNames = new ArrayList<>(singletonsByName.size() + singletonFactoriesByName.size());
+            beanNames.addAll(singletonsByName.keySet());
+            beanNames.addAll(singletonFactoriesByName.keySet());
         }
-        return Collections.emptyMap();
+        return getSingletonsByNames(beanNames);
+    }
+
+    private Map<String, Object> getSingletonsByNames(Collection<String> beanNames) {
+        if (beanNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Object> result = new HashMap<>(beanNames.size() * 2);
+        Object singleton;
+        for (final String beanName : beanNames) {
+            singleton = getSingletonByName(beanName);
+            if (singleton != null) {
+                result.put(beanName, singleton);
+            }
+        }
+        return result;
     }
 
     private boolean containsByName(String beanName) {
@@ -158,17 +173,62 @@ public abstract class AbstractBeanSingletonRegistry implements BeanSingletonRegi
     @Override
     public boolean containsSingleton(@NotNull String beanName) {
         Asserts.hasText(beanName, "beanName");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.beanNames.contains(beanName);
+        }
         synchronized (singletonsByName) {
             return containsByName(beanName);
         }
     }
 
+    /**
+     * 将当前所有单例压缩为不可变快照，此后的读取无需加锁，注册将被拒绝直至清空
+     */
+    @Override
+    public void freeze() {
+        synchronized (singletonsByName) {
+            if (snapshot == null) {
+                final Set<String> beanNames = new HashSet<>(
+                        (singletonsByName.size() + singletonFactoriesByName.size()) * 2);
+                beanNames.addAll(singletonsByName.keySet());
+                beanNames.addAll(singletonFactoriesByName.keySet());
+                snapshot = new Snapshot(Map.copyOf(singletonsByName), Set.copyOf(beanNames), namesByType.freeze());
+            }
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    private void throwExIfFrozen() {
+        if (snapshot != null) {
+            throw new IllegalStateException("the bean singleton registry has been frozen");
+        }
+    }
+
     @Override
     public void clear() {
         synchronized (singletonsByName) {
+            snapshot = null;
             singletonsByName.clear();
             singletonFactoriesByName.clear();
             namesByType.clear();
         }
     }
+
+    private static final class Snapshot {
+
+        private final Map<String, Object> singletons;
+        private final Set<String> beanNames;
+        private final BeanTypeIndex.Frozen<String> namesByType;
+
+        private Snapshot(Map<String, Object> singletons, Set<String> beanNames, BeanTypeIndex.Frozen<String> namesByType) {
+            this.singletons = singletons;
+            this.beanNames = beanNames;
+            this.namesByType = namesByType;
+        }
+    }
 }
@@ -18,10 +18,13 @@ package team.idealstate.hyper.context.ioc.bean.registry;
 
 import team.idealstate.hyper.commons.lang.NotNull;
 import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
 import team.idealstate.hyper.context.ioc.able.Clearable;
+import team.idealstate.hyper.context.ioc.able.Freezable;
 import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,11 +35,24 @@ import java.util.List;
  * @author ketikai
  * @since 1.0.0
  */
-public interface BeanDefinitionRegistry extends Clearable {
+public interface BeanDefinitionRegistry extends Clearable, Freezable {
 
 
     void registerBeanDefinition(@NotNull BeanDefinition beanDefinition);
 
+    /**
+     * 批量注册 bean 定义，所有名称校验通过后才会一次性发布，任一名称冲突时不会注册任何 bean 定义<br>
+     * 默认实现逐个调用 {@link #registerBeanDefinition(BeanDefinition)}，名称冲突时已注册的 bean 定义不会回滚
+     *
+     * @param beanDefinitions bean 定义
+     */
+    default void registerBeanDefinitions(@NotNull Collection<? extends BeanDefinition> beanDefinitions) {
+        Asserts.notNull(beanDefinitions, "beanDefinitions");
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            registerBeanDefinition(beanDefinition);
+        }
+    }
+
     @Nullable
     BeanDefinition getBeanDefinition(@NotNull String beanName);
 
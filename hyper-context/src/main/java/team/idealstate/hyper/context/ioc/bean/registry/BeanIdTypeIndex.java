@@ -0,0 +1,226 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.hyper.context.ioc.bean.registry;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.commons.reflect.ClassParents;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>BeanIdTypeIndex</p>
+ * 与 {@link BeanTypeIndex} 相同的按类型索引，但只保存 {@link BeanNameTable} 分配的 id，每个类型对应一个有序的 int 集合<br>
+ * 同一个 id 只能添加一次，按 id 升序添加时查找结果即为注册顺序<br>
+ * 该类中的所有内容都不是线程安全的
+ *
+ * <p>Created on 2026/10/17 22:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class BeanIdTypeIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Class<?>, IntList> byAssignableType;
+    /**
+     * 数组、基本类型与通配符类型无法通过父项索引，查找时逐个判断
+     */
+    private final IntList unindexed;
+    private TypeReference<?>[] typeReferences;
+    private int size;
+
+    @SuppressWarnings({"rawtypes"})
+    BeanIdTypeIndex(int initialCapacity) {
+        Asserts.isTrue(initialCapacity > 0, "initialCapacity must be greater than 0");
+        this.byAssignableType = new HashMap<>(initialCapacity * 4);
+        this.unindexed = new IntList(8);
+        this.typeReferences = new TypeReference[initialCapacity];
+    }
+
+    private BeanIdTypeIndex(BeanIdTypeIndex index) {
+        this.byAssignableType = new HashMap<>(index.byAssignableType.size() * 2);
+        for (final Map.Entry<Class<?>, IntList> entry : index.byAssignableType.entrySet()) {
+            byAssignableType.put(entry.getKey(), entry.getValue().copy());
+        }
+        this.unindexed = index.unindexed.copy();
+        this.typeReferences = Arrays.copyOf(index.typeReferences, Math.max(index.size, 1));
+        this.size = index.size;
+    }
+
+    /**
+     * @param id            bean 名称的 id
+     * @param typeReference bean 类型
+     */
+    void add(int id, @NotNull TypeReference<?> typeReference) {
+        Asserts.notNull(typeReference, "typeReference");
+        add(id, typeReference, null);
+    }
+
+    /**
+     * 批量添加，同一类型的父类与接口只会解析一次
+     *
+     * @param ids            bean 名称的 id
+     * @param typeReferences 与 id 一一对应的 bean 类型
+     */
+    void addAll(@NotNull int[] ids, @NotNull List<? extends TypeReference<?>> typeReferences) {
+        Asserts.notNull(ids, "ids");
+        Asserts.notNull(typeReferences, "typeReferences");
+        Asserts.isTrue(ids.length == typeReferences.size(), "ids and typeReferences must have the same size");
+        final Map<Class<?>, List<Class<?>>> resolvedParents = new HashMap<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            add(ids[i], typeReferences.get(i), resolvedParents);
+        }
+    }
+
+    private void add(int id, TypeReference<?> typeReference, Map<Class<?>, List<Class<?>>> resolvedParents) {
+        if (id >= typeReferences.length) {
+            typeReferences = Arrays.copyOf(typeReferences, Math.max(typeReferences.length * 2, id + 1));
+        }
+        Asserts.isTrue(typeReferences[id] == null, "id has already been added");
+        typeReferences[id] = typeReference;
+        size = Math.max(size, id + 1);
+        final Type referenceType = typeReference.getReferenceType();
+        if (!(referenceType instanceof Class<?> || referenceType instanceof ParameterizedType)) {
+            unindexed.add(id);
+            return;
+        }
+        final Class<?> rawType = typeReference.getRawReferenceType();
+        if (rawType.isArray() || rawType.isPrimitive()) {
+            unindexed.add(id);
+            return;
+        }
+        final List<Class<?>> assignableTypes = resolvedParents == null
+                ? ClassParents.forClass(rawType, ClassParents.INCLUDE_SELF)
+                : resolvedParents.computeIfAbsent(rawType, k -> ClassParents.forClass(k, ClassParents.INCLUDE_SELF));
+        for (final Class<?> assignableType : assignableTypes) {
+            byAssignableType.computeIfAbsent(assignableType, k -> new IntList(4)).add(id);
+        }
+        if (rawType.isInterface()) {
+            byAssignableType.computeIfAbsent(Object.class, k -> new IntList(4)).add(id);
+        }
+    }
+
+    /**
+     * @param type 目标类型
+     * @return 可以转换至目标类型的 id，该方法不会返回 null
+     * @see TypeReference#isAssignableTo(Type)
+     */
+    @NotNull
+    int[] get(@NotNull Type type) {
+        Asserts.notNull(type, "type");
+        if (size == 0) {
+            return EMPTY;
+        }
+        final IntList result;
+        if (type instanceof Class<?> that) {
+            final IntList candidates = byAssignableType.get(that);
+            if (unindexed.size == 0) {
+                return candidates == null ? EMPTY : candidates.toArray();
+            }
+            result = new IntList(candidates == null ? unindexed.size : candidates.size + unindexed.size);
+            if (candidates != null) {
+                result.addAll(candidates);
+            }
+            collectAssignable(unindexed, type, result);
+        } else if (type instanceof ParameterizedType that) {
+            final IntList candidates = byAssignableType.get((Class<?>) that.getRawType());
+            result = new IntList(8);
+            if (candidates != null) {
+                collectAssignable(candidates, type, result);
+            }
+            collectAssignable(unindexed, type, result);
+        } else {
+            result = new IntList(8);
+            for (int id = 0; id < size; id++) {
+                if (typeReferences[id] != null && typeReferences[id].isAssignableTo(type)) {
+                    result.add(id);
+                }
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * @return 当前内容的副本，对原索引的后续修改不会影响副本
+     */
+    @NotNull
+    BeanIdTypeIndex copy() {
+        return new BeanIdTypeIndex(this);
+    }
+
+    void clear() {
+        byAssignableType.clear();
+        unindexed.size = 0;
+        Arrays.fill(typeReferences, 0, size, null);
+        size = 0;
+    }
+
+    private void collectAssignable(IntList candidates, Type type, IntList result) {
+        int id;
+        for (int i = 0; i < candidates.size; i++) {
+            id = candidates.values[i];
+            if (typeReferences[id].isAssignableTo(type)) {
+                result.add(id);
+            }
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values;
+        private int size;
+
+        private IntList(int initialCapacity) {
+            this.values = new int[Math.max(initialCapacity, 1)];
+        }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addAll(IntList list) {
+            if (size + list.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + list.size, size * 2));
+            }
+            System.arraycopy(list.values, 0, values, size, list.size);
+            size += list.size;
+        }
+
+        private int[] toArray() {
+            return size == 0 ? EMPTY : Arrays.copyOf(values, size);
+        }
+
+        private IntList copy() {
+            final IntList copy = new IntList(size);
+            System.arraycopy(values, 0, copy.values, 0, size);
+            copy.size = size;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.hyper.context.ioc.bean.registry;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.util.Arrays;
+
+/**
+ * <p>BeanNameTable</p>
+ * 将每个 bean 名称驻留为一个从 0 开始连续分配的整数 id，其余内容可直接按 id 存放在数组中<br>
+ * 使用开放寻址的散列表，除名称本身外不会为每个名称分配对象，名称一经驻留不可移除<br>
+ * 该类中的所有内容都不是线程安全的
+ *
+ * <p>Created on 2026/10/17 22:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class BeanNameTable {
+
+    /**
+     * 散列槽位，存放 id + 1，0 表示空槽
+     */
+    private int[] slots;
+    private String[] names;
+    private int size;
+
+    BeanNameTable(int initialCapacity) {
+        Asserts.isTrue(initialCapacity > 0, "initialCapacity must be greater than 0");
+        this.slots = new int[tableSizeFor(initialCapacity)];
+        this.names = new String[initialCapacity];
+    }
+
+    private BeanNameTable(BeanNameTable table) {
+        this.slots = table.slots.clone();
+        this.names = Arrays.copyOf(table.names, Math.max(table.size, 1));
+        this.size = table.size;
+    }
+
+    /**
+     * @param name bean 名称
+     * @return 名称的 id，未驻留时返回 -1
+     */
+    int indexOf(@NotNull String name) {
+        final int mask = slots.length - 1;
+        int index = hash(name) & mask;
+        int slot;
+        while ((slot = slots[index]) != 0) {
+            if (names[slot - 1].equals(name)) {
+                return slot - 1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param name bean 名称
+     * @return 名称的 id，未驻留时分配新的 id
+     */
+    int intern(@NotNull String name) {
+        final int id = indexOf(name);
+        if (id >= 0) {
+            return id;
+        }
+        if ((size + 1) * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        names[size] = name;
+        insert(slots, hash(name), size + 1);
+        return size++;
+    }
+
+    @NotNull
+    String nameOf(int id) {
+        Asserts.isTrue(id >= 0 && id < size, "id out of range");
+        return names[id];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return 当前内容的副本，对原表的后续修改不会影响副本
+     */
+    @NotNull
+    BeanNameTable copy() {
+        return new BeanNameTable(this);
+    }
+
+    void clear() {
+        Arrays.fill(slots, 0);
+        Arrays.fill(names, 0, size, null);
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        final int[] slots = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            insert(slots, hash(names[i]), i + 1);
+        }
+        this.slots = slots;
+    }
+
+    private static void insert(int[] slots, int hash, int slot) {
+        final int mask = slots.length - 1;
+        int index = hash & mask;
+        while (slots[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        slots[index] = slot;
+    }
+
+    private static int hash(String name) {
+        final int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity * 2 - 1, 1)) << 1;
+    }
+}
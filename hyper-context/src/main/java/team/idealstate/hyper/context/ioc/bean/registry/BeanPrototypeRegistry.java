@@ -21,6 +21,7 @@ import team.idealstate.hyper.commons.lang.Nullable;
 import team.idealstate.hyper.commons.generic.TypeReference;
 import team.idealstate.hyper.context.ioc.ObjectFactory;
 import team.idealstate.hyper.context.ioc.able.Clearable;
+import team.idealstate.hyper.context.ioc.able.Freezable;
 
 import java.lang.reflect.Type;
 import java.util.Map;
@@ -33,7 +34,7 @@ import java.util.Map;
  * @author ketikai
  * @since 1.0.0
  */
-public interface BeanPrototypeRegistry extends Clearable {
+public interface BeanPrototypeRegistry extends Clearable, Freezable {
 
     <T> void registerPrototypeFactory(@NotNull String beanName, @NotNull TypeReference<T> beanTypeReference, @NotNull ObjectFactory<T> objectFactory);
 
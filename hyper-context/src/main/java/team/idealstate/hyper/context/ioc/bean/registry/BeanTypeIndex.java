@@ -0,0 +1,239 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.registry;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.commons.reflect.ClassParents;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <p>BeanTypeIndex</p>
+ * 在注册时将 bean 类型的所有父类与接口映射至该 bean，按类型查找时只需一次哈希查找<br>
+ * 该类中的所有内容都不是线程安全的
+ *
+ * <p>Created on 2026/10/17 9:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class BeanTypeIndex<V> {
+
+    private final Map<Class<?>, List<Entry<V>>> byAssignableType;
+    /**
+     * 数组、基本类型与通配符类型无法通过父项索引，查找时逐个判断
+     */
+    private final List<Entry<V>> unindexed = new ArrayList<>(8);
+    private final List<Entry<V>> entries;
+
+    BeanTypeIndex(int initialCapacity) {
+        this.byAssignableType = new HashMap<>(initialCapacity * 4);
+        this.entries = new ArrayList<>(initialCapacity);
+    }
+
+    void add(@NotNull TypeReference<?> typeReference, @NotNull V value) {
+        Asserts.notNull(typeReference, "typeReference");
+        Asserts.notNull(value, "value");
+        add(typeReference, value, null);
+    }
+
+    /**
+     * 批量添加，同一类型的父类与接口只会解析一次
+     *
+     * @param values      值
+     * @param typeOfValue 值的类型
+     */
+    void addAll(@NotNull Collection<? extends V> values, @NotNull Function<? super V, TypeReference<?>> typeOfValue) {
+        Asserts.notNull(values, "values");
+        Asserts.notNull(typeOfValue, "typeOfValue");
+        final Map<Class<?>, List<Class<?>>> resolvedParents = new HashMap<>(values.size());
+        for (final V value : values) {
+            Asserts.notNull(value, "value");
+            final TypeReference<?> typeReference = typeOfValue.apply(value);
+            Asserts.notNull(typeReference, "typeReference");
+            add(typeReference, value, resolvedParents);
+        }
+    }
+
+    private void add(TypeReference<?> typeReference, V value, Map<Class<?>, List<Class<?>>> resolvedParents) {
+        final Entry<V> entry = new Entry<>(typeReference, value);
+        entries.add(entry);
+        final Type referenceType = typeReference.getReferenceType();
+        if (!(referenceType instanceof Class<?> || referenceType instanceof ParameterizedType)) {
+            unindexed.add(entry);
+            return;
+        }
+        final Class<?> rawType = typeReference.getRawReferenceType();
+        if (rawType.isArray() || rawType.isPrimitive()) {
+            unindexed.add(entry);
+            return;
+        }
+        final List<Class<?>> assignableTypes = resolvedParents == null
+                ? ClassParents.forClass(rawType, ClassParents.INCLUDE_SELF)
+                : resolvedParents.computeIfAbsent(rawType, k -> ClassParents.forClass(k, ClassParents.INCLUDE_SELF));
+        for (final Class<?> assignableType : assignableTypes) {
+            byAssignableType.computeIfAbsent(assignableType, k -> new ArrayList<>(4)).add(entry);
+        }
+        if (rawType.isInterface()) {
+            byAssignableType.computeIfAbsent(Object.class, k -> new ArrayList<>(4)).add(entry);
+        }
+    }
+
+    /**
+     * @param type 目标类型
+     * @return 可以转换至目标类型的值，该方法不会返回 null
+     * @see TypeReference#isAssignableTo(Type)
+     */
+    @NotNull
+    List<V> get(@NotNull Type type) {
+        Asserts.notNull(type, "type");
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<V> result;
+        if (type instanceof Class<?> that) {
+            final List<Entry<V>> candidates = byAssignableType.get(that);
+            result = new ArrayList<>(candidates == null ? unindexed.size() : candidates.size() + unindexed.size());
+            if (candidates != null) {
+                for (final Entry<V> candidate : candidates) {
+                    result.add(candidate.value);
+                }
+            }
+            collectAssignable(unindexed, type, result);
+        } else if (type instanceof ParameterizedType that) {
+            final List<Entry<V>> candidates = byAssignableType.get((Class<?>) that.getRawType());
+            result = new ArrayList<>(8);
+            if (candidates != null) {
+                collectAssignable(candidates, type, result);
+            }
+            collectAssignable(unindexed, type, result);
+        } else {
+            result = new ArrayList<>(8);
+            collectAssignable(entries, type, result);
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * @return 当前内容的不可变快照，对原索引的后续修改不会影响快照
+     */
+    @NotNull
+    Frozen<V> freeze() {
+        return new Frozen<>(this);
+    }
+
+    void clear() {
+        byAssignableType.clear();
+        unindexed.clear();
+        entries.clear();
+    }
+
+    private static <V> void collectAssignable(List<Entry<V>> candidates, Type type, List<V> result) {
+        for (final Entry<V> candidate : candidates) {
+            if (candidate.typeReference.isAssignableTo(type)) {
+                result.add(candidate.value);
+            }
+        }
+    }
+
+    /**
+     * <p>Frozen</p>
+     * {@link BeanTypeIndex} 的不可变快照，按类查找的结果在创建时已预先计算，读取时既无需加锁也无需分配<br>
+     * 该类中的所有内容都是线程安全的
+     *
+     * <p>Created on 2026/10/17 19:10</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    static final class Frozen<V> {
+
+        private final Map<Class<?>, List<V>> valuesByAssignableType;
+        private final Map<Class<?>, List<Entry<V>>> byAssignableType;
+        private final List<Entry<V>> unindexed;
+        private final List<Entry<V>> entries;
+
+        private Frozen(BeanTypeIndex<V> index) {
+            final Map<Class<?>, List<V>> valuesByAssignableType = new HashMap<>(index.byAssignableType.size() * 2);
+            final Map<Class<?>, List<Entry<V>>> byAssignableType = new HashMap<>(index.byAssignableType.size() * 2);
+            for (final Map.Entry<Class<?>, List<Entry<V>>> entry : index.byAssignableType.entrySet()) {
+                valuesByAssignableType.put(entry.getKey(), List.copyOf(index.get(entry.getKey())));
+                byAssignableType.put(entry.getKey(), List.copyOf(entry.getValue()));
+            }
+            this.valuesByAssignableType = Map.copyOf(valuesByAssignableType);
+            this.byAssignableType = Map.copyOf(byAssignableType);
+            this.unindexed = List.copyOf(index.unindexed);
+            this.entries = List.copyOf(index.entries);
+        }
+
+        /**
+         * @param type 目标类型
+         * @return 可以转换至目标类型的值，返回的列表不可修改
+         * @see BeanTypeIndex#get(Type)
+         */
+        @NotNull
+        List<V> get(@NotNull Type type) {
+            Asserts.notNull(type, "type");
+            if (entries.isEmpty()) {
+                return Collections.emptyList();
+            }
+            final List<V> result;
+            if (type instanceof Class<?> that) {
+                final List<V> values = valuesByAssignableType.get(that);
+                if (values != null) {
+                    return values;
+                }
+                if (unindexed.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                result = new ArrayList<>(4);
+                collectAssignable(unindexed, type, result);
+            } else if (type instanceof ParameterizedType that) {
+                final List<Entry<V>> candidates = byAssignableType.get((Class<?>) that.getRawType());
+                result = new ArrayList<>(8);
+                if (candidates != null) {
+                    collectAssignable(candidates, type, result);
+                }
+                collectAssignable(unindexed, type, result);
+            } else {
+                result = new ArrayList<>(8);
+                collectAssignable(entries, type, result);
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final TypeReference<?> typeReference;
+        private final V value;
+
+        private Entry(TypeReference<?> typeReference, V value) {
+            this.typeReference = typeReference;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.hyper.context.ioc.bean.registry;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.definition.ConfigurableBeanDefinition;
+import team.idealstate.hyper.context.ioc.exception.NameAlreadyBoundException;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * <p>CompactBeanDefinitionRegistry</p>
+ * 适用于数万个 bean 的 bean 定义注册表，每个名称只驻留一次为整数 id，bean 定义按 id 存放在数组中，
+ * 按类型的索引只保存 id，相比 {@link DefaultBeanDefinitionRegistry} 每个 bean 的额外内存更少<br>
+ * 生成名称的方式与 {@link DefaultBeanDefinitionRegistry} 一致，{@link #getBeanDefinitions()} 按注册顺序返回
+ *
+ * <p>Created on 2026/10/17 22:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public class CompactBeanDefinitionRegistry implements BeanDefinitionRegistry {
+
+    private final BeanNameTable names;
+    private final BeanIdTypeIndex byType;
+    private BeanDefinition[] beanDefinitions;
+    private volatile Snapshot snapshot;
+
+    public CompactBeanDefinitionRegistry() {
+        this(128);
+    }
+
+    /**
+     * @param initialCapacity 预计的 bean 数量
+     */
+    public CompactBeanDefinitionRegistry(int initialCapacity) {
+        Asserts.isTrue(initialCapacity > 0, "initialCapacity must be greater than 0");
+        this.names = new BeanNameTable(initialCapacity);
+        this.byType = new BeanIdTypeIndex(initialCapacity);
+        this.beanDefinitions = new BeanDefinition[initialCapacity];
+    }
+
+    @NotNull
+    protected String generateBeanName(@NotNull BeanDefinition beanDefinition) {
+        return beanDefinition.getType().getSimpleName();
+    }
+
+    @Override
+    public void registerBeanDefinition(@NotNull BeanDefinition beanDefinition) {
+        Asserts.notNull(beanDefinition, "beanDefinition");
+        synchronized (names) {
+            throwExIfFrozen();
+            String beanName = beanDefinition.getName();
+            if (beanName == null) {
+                beanName = generateBeanName(beanDefinition);
+                Asserts.hasText(beanName, "beanName");
+            }
+            if (names.indexOf(beanName) >= 0) {
+                throw new NameAlreadyBoundException(beanName);
+            }
+            ((ConfigurableBeanDefinition) beanDefinition).setName(beanName);
+            final int id = names.intern(beanName);
+            ensureCapacity(id + 1);
+            beanDefinitions[id] = beanDefinition;
+            byType.add(id, beanDefinition.getTypeReference());
+        }
+    }
+
+    @Override
+    public void registerBeanDefinitions(@NotNull Collection<? extends BeanDefinition> beanDefinitions) {
+        Asserts.notNull(beanDefinitions, "beanDefinitions");
+        if (beanDefinitions.isEmpty()) {
+            return;
+        }
+        final Map<String, BeanDefinition> batch = new LinkedHashMap<>(beanDefinitions.size() * 2);
+        String beanName;
+        for (final BeanDefinition beanDefinition : beanDefinitions) {
+            Asserts.notNull(beanDefinition, "beanDefinition");
+            beanName = beanDefinition.getName();
+            if (beanName == null) {
+                beanName = generateBeanName(beanDefinition);
+                Asserts.hasText(beanName, "beanName");
+            }
+            if (batch.putIfAbsent(beanName, beanDefinition) != null) {
+                throw new NameAlreadyBoundException(beanName);
+            }
+        }
+        synchronized (names) {
+            throwExIfFrozen();
+            for (final String name : batch.keySet()) {
+                if (names.indexOf(name) >= 0) {
+                    throw new NameAlreadyBoundException(name);
+                }
+            }
+            ensureCapacity(names.size() + batch.size());
+            final int[] ids = new int[batch.size()];
+            final List<TypeReference<?>> typeReferences = new ArrayList<>(batch.size());
+            int i = 0;
+            for (final Map.Entry<String, BeanDefinition> entry : batch.entrySet()) {
+                final BeanDefinition beanDefinition = entry.getValue();
+                ((ConfigurableBeanDefinition) beanDefinition).setName(entry.getKey());
+                final int id = names.intern(entry.getKey());
+                this.beanDefinitions[id] = beanDefinition;
+                ids[i++] = id;
+                typeReferences.add(beanDefinition.getTypeReference());
+            }
+            byType.addAll(ids, typeReferences);
+        }
+    }
+
+    @Nullable
+    @Override
+    public BeanDefinition getBeanDefinition(@NotNull String beanName) {
+        Asserts.hasText(beanName, "beanName");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            final int id = snapshot.names.indexOf(beanName);
+            return id < 0 ? null : snapshot.beanDefinitions.get(id);
+        }
+        synchronized (names) {
+            final int id = names.indexOf(beanName);
+            return id < 0 ? null : beanDefinitions[id];
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<BeanDefinition> getBeanDefinitions(@NotNull Type beanType) {
+        Asserts.notNull(beanType, "beanType");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return toBeanDefinitions(snapshot.byType.get(beanType), snapshot.beanDefinitions);
+        }
+        synchronized (names) {
+            final int[] ids = byType.get(beanType);
+            if (ids.length == 0) {
+                return Collections.emptyList();
+            }
+            final List<BeanDefinition> result = new ArrayList<>(ids.length);
+            for (final int id : ids) {
+                result.add(beanDefinitions[id]);
+            }
+            return result;
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<BeanDefinition> getBeanDefinitions() {
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.beanDefinitions;
+        }
+        synchronized (names) {
+            if (names.size() != 0) {
+                return new ArrayList<>(Arrays.asList(beanDefinitions).subList(0, names.size()));
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean containsBeanDefinition(@NotNull String beanName) {
+        Asserts.hasText(beanName, "beanName");
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.names.indexOf(beanName) >= 0;
+        }
+        synchronized (names) {
+            return names.indexOf(beanName) >= 0;
+        }
+    }
+
+    /**
+     * 将当前所有 bean 定义复制为不可变快照，此后的读取无需加锁，注册将被拒绝直至清空
+     */
+    @Override
+    public void freeze() {
+        synchronized (names) {
+            if (snapshot == null) {
+                snapshot = new Snapshot(names.copy(),
+                        List.of(Arrays.copyOf(beanDefinitions, names.size())), byType.copy());
+            }
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    private void throwExIfFrozen() {
+        if (snapshot != null) {
+            throw new IllegalStateException("the bean definition registry has been frozen");
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (names) {
+            snapshot = null;
+            if (names.size() != 0) {
+                Arrays.fill(beanDefinitions, 0, names.size(), null);
+                names.clear();
+                byType.clear();
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > beanDefinitions.length) {
+            beanDefinitions = Arrays.copyOf(beanDefinitions, Math.max(beanDefinitions.length * 2, capacity));
+        }
+    }
+
+    private static List<BeanDefinition> toBeanDefinitions(int[] ids, List<BeanDefinition> beanDefinitions) {
+        if (ids.length == 0) {
+            return Collections.emptyList();
+        }
+        final BeanDefinition[] result = new BeanDefinition[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = beanDefinitions.get(ids[i]);
+        }
+        return List.of(result);
+    }
+
+    private static final class Snapshot {
+
+        private final BeanNameTable names;
+        /**
+         * 按 id 排列
+         */
+        private final List<BeanDefinition> beanDefinitions;
+        private final BeanIdTypeIndex byType;
+
+        private Snapshot(BeanNameTable names, List<BeanDefinition> beanDefinitions, BeanIdTypeIndex byType) {
+            this.names = names;
+            this.beanDefinitions = beanDefinitions;
+            this.byType = byType;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.hyper.context.ioc.bean.registry;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.ObjectFactory;
+import team.idealstate.hyper.context.ioc.exception.NameAlreadyBoundException;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>CompactBeanSingletonRegistry</p>
+ * 每个名称只驻留一次为整数 id，单例与单例工厂按 id 存放在数组中，按类型的索引只保存 id<br>
+ * 行为与 {@link AbstractBeanSingletonRegistry} 一致
+ *
+ * <p>Created on 2026/10/17 22:20</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+final class CompactBeanSingletonRegistry implements BeanSingletonRegistry {
+
+    private final BeanNameTable names = new BeanNameTable(64);
+    private final BeanIdTypeIndex idsByType = new BeanIdTypeIndex(64);
+    private Object[] singletons = new Object[64];
+    @SuppressWarnings({"rawtypes"})
+    private ObjectFactory<?>[] singletonFactories = new ObjectFactory[64];
+    private volatile Snapshot snapshot;
+
+    @Override
+    public <T> void registerSingleton(@NotNull String beanName, @NotNull TypeReference<T> beanTypeReference, @NotNull T beanObject) {
+        Asserts.hasText(beanName, "beanName");
+        Asserts.notNull(beanTypeReference, "beanTypeReference");
+        Asserts.notNull(beanObject, "beanObject");
+        synchronized (names) {
+            final int id = intern(beanName);
+            singletons[id] = beanObject;
+            idsByType.add(id, beanTypeReference);
+        }
+    }
+
+    @Override
+    public <T> void registerSingletonFactory(@NotNull String beanName, @NotNull TypeReference<T> beanTypeReference, @NotNull ObjectFactory<T> objectFactory) {
+        Asserts.hasText(beanName, "beanName");
+        Asserts.notNull(beanTypeReference, "beanTypeReference");
+        Asserts.notNull(objectFactory, "objectFactory");
+        synchronized (names) {
+            final int id = intern(beanName);
+            singletonFactories[id] = objectFactory;
+            idsByType.add(id, beanTypeReference);
+        }
+    }
+
+    private int intern(String beanName) {
+        throwExIfFrozen();
+        if (names.indexOf(beanName) >= 0) {
+            throw new NameAlreadyBoundException(beanName);
+        }
+        final int id = names.intern(beanName);
+        if (id >= singletons.length) {
+            final int capacity = singletons.length * 2;
+            singletons = Arrays.copyOf(singletons, capacity);
+            singletonFactories = Arrays.copyOf(singletonFactories, capacity);
+        }
+        return id;
+    }
+
+    /**
+     * 单例工厂在同步块外调用，避免工厂创建依赖时与其他线程相互等待<br>
+     * 冻结后已创建的单例直接从快照读取，只有冻结时尚未创建的懒加载单例仍需加锁
+     */
+    private Object getSingletonById(Snapshot snapshot, int id) {
+        if (snapshot != null) {
+            final Object singleton = snapshot.singletons[id];
+            if (singleton != null) {
+                return singleton;
+            }
+        }
+        final ObjectFactory<?> objectFactory;
+        synchronized (names) {
+            final Object singleton = singletons[id];
+            if (singleton != null) {
+                return singleton;
+            }
+            objectFactory = singletonFactories[id];
+            if (objectFactory == null) {
+                return null;
+            }
+        }
+        final Object singleton = objectFactory.getObject();
+        Asserts.notNull(singleton, "singleton");
+        synchronized (names) {
+            final Object existing = singletons[id];
+            if (existing != null) {
+                return existing;
+            }
+            if (singletonFactories[id] != null) {
+                singletonFactories[id] = null;
+                singletons[id] = singleton;
+            }
+        }
+        return singleton;
+    }
+
+    private int indexOf(Snapshot snapshot, String beanName) {
+        if (snapshot != null) {
+            return snapshot.names.indexOf(beanName);
+        }
+        synchronized (names) {
+            return names.indexOf(beanName);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Object getSingleton(@NotNull String beanName) {
+        Asserts.hasText(beanName, "beanName");
+        final Snapshot snapshot = this.snapshot;
+        final int id = indexOf(snapshot, beanName);
+        return id < 0 ? null : getSingletonById(snapshot, id);
+    }
+
+    @NotNull
+    @Override
+    public Map<String, Object> getSingletons(@NotNull Type beanType) {
+        Asserts.notNull(beanType, "beanType");
+        final Snapshot snapshot = this.snapshot;
+        final int[] ids;
+        if (snapshot != null) {
+            ids = snapshot.idsByType.get(beanType);
+        } else {
+            synchronized (names) {
+                ids = idsByType.get(beanType);
+            }
+        }
+        if (ids.length == 0) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Object> result = new HashMap<>(ids.length * 2);
+        Object singleton;
+        for (final int id : ids) {
+            singleton = getSingletonById(snapshot, id);
+            if (singleton != null) {
+                result.put(nameOf(snapshot, id), singleton);
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    @Override
+    public Map<String, Object> getSingletons() {
+        final Snapshot snapshot = this.snapshot;
+        final int size;
+        if (snapshot != null) {
+            size = snapshot.names.size();
+        } else {
+            synchronized (names) {
+                size = names.size();
+            }
+        }
+        if (size == 0) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Object> result = new HashMap<>(size * 2);
+        Object singleton;
+        for (int id = 0; id < size; id++) {
+            singleton = getSingletonById(snapshot, id);
+            if (singleton != null) {
+                result.put(nameOf(snapshot, id), singleton);
+            }
+        }
+        return result;
+    }
+
+    private String nameOf(Snapshot snapshot, int id) {
+        if (snapshot != null) {
+            return snapshot.names.nameOf(id);
+        }
+        synchronized (names) {
+            return names.nameOf(id);
+        }
+    }
+
+    @Override
+    public boolean containsSingleton(@NotNull String beanName) {
+        Asserts.hasText(beanName, "beanName");
+        return indexOf(this.snapshot, beanName) >= 0;
+    }
+
+    /**
+     * 将当前所有单例复制为不可变快照，此后的读取无需加锁，注册将被拒绝直至清空
+     */
+    @Override
+    public void freeze() {
+        synchronized (names) {
+            if (snapshot == null) {
+                snapshot = new Snapshot(names.copy(), Arrays.copyOf(singletons, names.size()), idsByType.copy());
+            }
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    private void throwExIfFrozen() {
+        if (snapshot != null) {
+            throw new IllegalStateException("the bean singleton registry has been frozen");
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (names) {
+            snapshot = null;
+            Arrays.fill(singletons, 0, names.size(), null);
+            Arrays.fill(singletonFactories, 0, names.size(), null);
+            names.clear();
+            idsByType.clear();
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final BeanNameTable names;
+        /**
+         * 按 id 排列，冻结时尚未创建的单例为 null
+         */
+        private final Object[] singletons;
+        private final BeanIdTypeIndex idsByType;
+
+        private Snapshot(BeanNameTable names, Object[] singletons, BeanIdTypeIndex idsByType) {
+            this.names = names;
+            this.singletons = singletons;
+            this.idsByType = idsByType;
+        }
+    }
+}
@@ -34,9 +34,21 @@ import java.util.Map;
  */
 public final class DefaultBeanObjectRegistry implements BeanObjectRegistry {
 
-    private final BeanSingletonRegistry beanSingletonRegistry = new DefaultBeanSingletonRegistry();
+    private final BeanSingletonRegistry beanSingletonRegistry;
     private final BeanPrototypeRegistry beanPrototypeRegistry = new DefaultBeanPrototypeRegistry();
 
+    public DefaultBeanObjectRegistry() {
+        this(false);
+    }
+
+    /**
+     * @param compact 是否将单例按整数 id 存放在数组中，适用于数万个 bean 的容器
+     * @see CompactBeanSingletonRegistry
+     */
+    public DefaultBeanObjectRegistry(boolean compact) {
+        this.beanSingletonRegistry = compact ? new CompactBeanSingletonRegistry() : new DefaultBeanSingletonRegistry();
+    }
+
     @Override
     public <T> void registerSingleton(@NotNull String beanName, @NotNull TypeReference<T> beanTypeReference, @NotNull T beanObject) {
         beanSingletonRegistry.registerSingleton(beanName, beanTypeReference, beanObject);
@@ -104,6 +116,17 @@ public final class DefaultBeanObjectRegistry implements BeanObjectRegistry {
         beanPrototypeRegistry.clear();
     }
 
+    @Override
+    public void freeze() {
+        beanSingletonRegistry.freeze();
+        beanPrototypeRegistry.freeze();
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return beanSingletonRegistry.isFrozen() && beanPrototypeRegistry.isFrozen();
+    }
+
     @Override
     public boolean containsBean(@NotNull String beanName) {
         return containsSingleton(beanName) || containsPrototype(beanName);
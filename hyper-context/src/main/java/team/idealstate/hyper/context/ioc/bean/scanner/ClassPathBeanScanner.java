@@ -0,0 +1,281 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.scanner;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import team.idealstate.hyper.commons.StringUtils;
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asm.MetadataUtils;
+import team.idealstate.hyper.commons.asm.metadata.AnnotationMetadata;
+import team.idealstate.hyper.commons.asm.metadata.ClassMetadata;
+import team.idealstate.hyper.commons.asserts.Asserts;
+import team.idealstate.hyper.commons.generic.TypeReference;
+import team.idealstate.hyper.context.ioc.bean.definition.BeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.definition.ConfigurableBeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.definition.DefaultBeanDefinition;
+import team.idealstate.hyper.context.ioc.bean.factory.RegistrableBeanFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * <p>ClassPathBeanScanner</p>
+ * 扫描指定包下所有标注了 {@link team.idealstate.hyper.context.ioc.annotation.Bean} 的类<br>
+ * 通过 ASM 读取类文件判断是否为 bean，只有匹配的类才会被加载（且不会初始化），每个 jar 包与目录会被并行扫描
+ *
+ * <p>Created on 2026/10/17 14:30</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class ClassPathBeanScanner {
+
+    private static final String BEAN_DESCRIPTOR = "Lteam/idealstate/hyper/context/ioc/annotation/Bean;";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+    private static final int UNSUPPORTED_ACCESS = Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT |
+            Opcodes.ACC_ANNOTATION | Opcodes.ACC_ENUM | Opcodes.ACC_SYNTHETIC;
+
+    private final ClassLoader classLoader;
+    private final Executor executor;
+
+    public ClassPathBeanScanner(@NotNull ClassLoader classLoader) {
+        this(classLoader, null);
+    }
+
+    /**
+     * @param classLoader 类加载器
+     * @param executor    用于并行扫描的执行器，为 null 时使用 {@link ForkJoinPool#commonPool()}
+     */
+    public ClassPathBeanScanner(@NotNull ClassLoader classLoader, @Nullable Executor executor) {
+        Asserts.notNull(classLoader, "classLoader");
+        this.classLoader = classLoader;
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+    }
+
+    /**
+     * @param packageNames 包名，包括其子包
+     * @return 按类名排序的 bean 定义
+     * @throws IOException 读取类路径失败
+     */
+    @NotNull
+    public List<BeanDefinition> scan(@NotNull String... packageNames) throws IOException {
+        Asserts.notNull(packageNames, "packageNames");
+        final Map<String, Set<String>> jarRoots = new LinkedHashMap<>(16);
+        final Map<Path, String> directoryRoots = new LinkedHashMap<>(16);
+        for (final String packageName : packageNames) {
+            Asserts.notNull(packageName, "packageName");
+            final String packagePath = packageName.replace('.', '/');
+            final Enumeration<URL> resources = classLoader.getResources(packagePath);
+            URL resource;
+            while (resources.hasMoreElements()) {
+                resource = resources.nextElement();
+                if ("file".equals(resource.getProtocol())) {
+                    try {
+                        directoryRoots.put(Path.of(resource.toURI()), packagePath);
+                    } catch (URISyntaxException e) {
+                        throw new IOException(e);
+                    }
+                } else if ("jar".equals(resource.getProtocol())) {
+                    final URLConnection connection = resource.openConnection();
+                    if (connection instanceof JarURLConnection that) {
+                        connection.setUseCaches(false);
+                        final String jarPath;
+                        try {
+                            jarPath = new File(that.getJarFileURL().toURI()).getPath();
+                        } catch (URISyntaxException e) {
+                            throw new IOException(e);
+                        }
+                        jarRoots.computeIfAbsent(jarPath, k -> new LinkedHashSet<>(4))
+                                .add(packagePath.isEmpty() ? "" : packagePath + "/");
+                    }
+                }
+            }
+        }
+
+        final List<CompletableFuture<List<ScannedBean>>> futures = new ArrayList<>(jarRoots.size() + directoryRoots.size());
+        for (final Map.Entry<String, Set<String>> entry : jarRoots.entrySet()) {
+            futures.add(CompletableFuture.supplyAsync(() -> scanJar(entry.getKey(), entry.getValue()), executor));
+        }
+        for (final Map.Entry<Path, String> entry : directoryRoots.entrySet()) {
+            futures.add(CompletableFuture.supplyAsync(() -> scanDirectory(entry.getKey(), entry.getValue()), executor));
+        }
+        final Map<String, ScannedBean> scannedBeans = new TreeMap<>();
+        try {
+            for (final CompletableFuture<List<ScannedBean>> future : futures) {
+                for (final ScannedBean scannedBean : future.join()) {
+                    scannedBeans.putIfAbsent(scannedBean.className, scannedBean);
+                }
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException that) {
+                throw that.getCause();
+            }
+            throw e;
+        }
+
+        final List<BeanDefinition> beanDefinitions = new ArrayList<>(scannedBeans.size());
+        for (final ScannedBean scannedBean : scannedBeans.values()) {
+            beanDefinitions.add(defineBean(scannedBean));
+        }
+        return beanDefinitions;
+    }
+
+    /**
+     * 扫描指定包并将其中的所有 bean 注册至指定工厂
+     *
+     * @param beanFactory  bean 工厂
+     * @param packageNames 包名，包括其子包
+     * @return 注册的 bean 数量
+     * @throws IOException 读取类路径失败
+     */
+    public int scan(@NotNull RegistrableBeanFactory beanFactory, @NotNull String... packageNames) throws IOException {
+        Asserts.notNull(beanFactory, "beanFactory");
+        final List<BeanDefinition> beanDefinitions = scan(packageNames);
+        beanFactory.registerBeans(beanDefinitions);
+        return beanDefinitions.size();
+    }
+
+    private static List<ScannedBean> scanJar(String jarPath, Set<String> prefixes) {
+        final List<ScannedBean> scannedBeans = new ArrayList<>(16);
+        try (final JarFile jarFile = new JarFile(jarPath)) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            JarEntry entry;
+            String entryName;
+            while (entries.hasMoreElements()) {
+                entry = entries.nextElement();
+                entryName = entry.getName();
+                if (entry.isDirectory() || !entryName.endsWith(CLASS_FILE_SUFFIX) || !startsWithAny(entryName, prefixes)) {
+                    continue;
+                }
+                try (final InputStream inputStream = jarFile.getInputStream(entry)) {
+                    collectScannedBean(inputStream.readAllBytes(), scannedBeans);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return scannedBeans;
+    }
+
+    private static List<ScannedBean> scanDirectory(Path directory, String packagePath) {
+        final List<ScannedBean> scannedBeans = new ArrayList<>(16);
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            final Iterator<Path> iterator = paths.iterator();
+            Path path;
+            while (iterator.hasNext()) {
+                path = iterator.next();
+                if (path.getFileName().toString().endsWith(CLASS_FILE_SUFFIX) && Files.isRegularFile(path)) {
+                    collectScannedBean(Files.readAllBytes(path), scannedBeans);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(new IOException("cannot scan " + packagePath + " in " + directory, e));
+        }
+        return scannedBeans;
+    }
+
+    private static boolean startsWithAny(String entryName, Set<String> prefixes) {
+        for (final String prefix : prefixes) {
+            if (entryName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectScannedBean(byte[] classFile, List<ScannedBean> scannedBeans) {
+        if (classFile.length == 0) {
+            return;
+        }
+        final ClassMetadata classMetadata = MetadataUtils.getClassMetadata(
+                classFile, Opcodes.ASM9, PARSING_OPTIONS, false);
+        if ((classMetadata.getAccess() & UNSUPPORTED_ACCESS) != 0) {
+            return;
+        }
+        final AnnotationMetadata bean = MetadataUtils.getAnnotation(classMetadata, BEAN_DESCRIPTOR);
+        if (bean != null) {
+            scannedBeans.add(new ScannedBean(classMetadata.getName().replace('/', '.'), bean));
+        }
+    }
+
+    private BeanDefinition defineBean(ScannedBean scannedBean) throws IOException {
+        final Class<?> beanType;
+        try {
+            beanType = Class.forName(scannedBean.className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("scanned bean type not found: " + scannedBean.className, e);
+        }
+        String beanName = null;
+        boolean singleton = true;
+        boolean lazy = false;
+        String initMethod = null;
+        String destroyMethod = null;
+        final AnnotationMetadata.ValueMetadata[] values = scannedBean.bean.getMethods();
+        if (values != null) {
+            for (final AnnotationMetadata.ValueMetadata value : values) {
+                switch (value.getName()) {
+                    case "value" -> beanName = (String) value.getValue();
+                    case "singleton" -> singleton = (Boolean) value.getValue();
+                    case "lazy" -> lazy = (Boolean) value.getValue();
+                    case "initMethod" -> initMethod = (String) value.getValue();
+                    case "destroyMethod" -> destroyMethod = (String) value.getValue();
+                }
+            }
+        }
+        final ConfigurableBeanDefinition beanDefinition = new DefaultBeanDefinition(
+                TypeReference.forType(beanType),
+                StringUtils.isNullOrBlank(initMethod) ? null : initMethod,
+                StringUtils.isNullOrBlank(destroyMethod) ? null : destroyMethod
+        );
+        if (!StringUtils.isNullOrBlank(beanName)) {
+            beanDefinition.setName(beanName);
+        }
+        beanDefinition.setSingleton(singleton);
+        beanDefinition.setLazy(lazy);
+        return beanDefinition;
+    }
+
+    private static final class ScannedBean {
+
+        private final String className;
+        private final AnnotationMetadata bean;
+
+        private ScannedBean(String className, AnnotationMetadata bean) {
+            this.className = className;
+            this.bean = bean;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.startup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>BeanStartupEvent</p>
+ * bean 启动各阶段的 JDK Flight Recorder 事件，每个阶段对应一个事件类型以便单独配置阈值
+ *
+ * <p>Created on 2026/10/17 16:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@Category({"Hyper", "Bean Factory"})
+@StackTrace(false)
+public abstract class BeanStartupEvent extends Event {
+
+    @Label("Bean Name")
+    String beanName;
+
+    @Label("Bean Type")
+    Class<?> beanType;
+
+    @Label("Detail")
+    String detail;
+
+    @Name("team.idealstate.hyper.BeanDefinition")
+    @Label("Bean Definition")
+    public static final class Definition extends BeanStartupEvent {}
+
+    @Name("team.idealstate.hyper.BeanCreation")
+    @Label("Bean Creation")
+    @Description("Creation of a bean including its dependencies, post-processing and initialization")
+    public static final class Creation extends BeanStartupEvent {}
+
+    @Name("team.idealstate.hyper.BeanDependencyResolution")
+    @Label("Bean Dependency Resolution")
+    public static final class DependencyResolution extends BeanStartupEvent {}
+
+    @Name("team.idealstate.hyper.BeanInstantiation")
+    @Label("Bean Instantiation")
+    public static final class Instantiation extends BeanStartupEvent {}
+
+    @Name("team.idealstate.hyper.BeanPostProcessing")
+    @Label("Bean Post-Processing")
+    public static final class PostProcessing extends BeanStartupEvent {}
+
+    @Name("team.idealstate.hyper.BeanInitialization")
+    @Label("Bean Initialization")
+    public static final class Initialization extends BeanStartupEvent {}
+}
@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.startup;
+
+/**
+ * <p>StartupPhase</p>
+ * bean 启动过程中被记录的阶段
+ *
+ * <p>Created on 2026/10/17 16:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public enum StartupPhase {
+    /**
+     * 定义 bean
+     */
+    DEFINITION,
+    /**
+     * 创建 bean，包含其余所有创建阶段以及依赖 bean 的创建
+     */
+    CREATION,
+    /**
+     * 解析构造器依赖，包含依赖 bean 的创建
+     */
+    DEPENDENCY_RESOLUTION,
+    /**
+     * 调用构造器
+     */
+    INSTANTIATION,
+    /**
+     * 调用一个 bean 后置处理器
+     */
+    POST_PROCESSING,
+    /**
+     * 调用初始化方法
+     */
+    INITIALIZATION
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.startup;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import jdk.jfr.EventType;
+
+/**
+ * <p>StartupStep</p>
+ * 一个正在进行的启动阶段，结束时提交对应的 JFR 事件并记录至时间线<br>
+ * 既未开启 JFR 记录也未设置时间线时不会产生任何开销
+ *
+ * <p>Created on 2026/10/17 16:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class StartupStep {
+
+    private static final StartupStep NONE = new StartupStep(null, null);
+    private static final boolean FLIGHT_RECORDER_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private final BeanStartupEvent event;
+    private final StartupTimeline.Step step;
+
+    private StartupStep(BeanStartupEvent event, StartupTimeline.Step step) {
+        this.event = event;
+        this.step = step;
+    }
+
+    /**
+     * @param timeline 时间线
+     * @param phase    阶段
+     * @return 该阶段是否会被记录至时间线或提交为 JFR 事件，可用于跳过附加信息的构建
+     */
+    public static boolean isRecording(@Nullable StartupTimeline timeline, @NotNull StartupPhase phase) {
+        return timeline != null || (FLIGHT_RECORDER_AVAILABLE && EventTypes.isEnabled(phase));
+    }
+
+    /**
+     * @param timeline 时间线，为 null 时只提交 JFR 事件
+     * @param phase    阶段
+     * @param beanName bean 名称
+     * @param beanType bean 类型
+     * @param detail   附加信息，如后置处理器的类型
+     * @return 需要在阶段结束时调用 {@link #end()} 的步骤
+     */
+    @NotNull
+    public static StartupStep start(
+            @Nullable StartupTimeline timeline,
+            @NotNull StartupPhase phase,
+            @NotNull String beanName,
+            @Nullable Class<?> beanType,
+            @Nullable String detail
+    ) {
+        Asserts.notNull(phase, "phase");
+        Asserts.notNull(beanName, "beanName");
+        BeanStartupEvent event = null;
+        if (FLIGHT_RECORDER_AVAILABLE && EventTypes.isEnabled(phase)) {
+            event = newEvent(phase);
+            event.beanName = beanName;
+            event.beanType = beanType;
+            event.detail = detail;
+            event.begin();
+        }
+        final StartupTimeline.Step step = timeline == null ? null : timeline.start(phase, beanName, detail);
+        if (event == null && step == null) {
+            return NONE;
+        }
+        return new StartupStep(event, step);
+    }
+
+    /**
+     * 不能放在事件类中，否则校验该方法时加载事件子类会与 JFR 对事件类的插桩冲突
+     */
+    private static BeanStartupEvent newEvent(StartupPhase phase) {
+        return switch (phase) {
+            case DEFINITION -> new BeanStartupEvent.Definition();
+            case CREATION -> new BeanStartupEvent.Creation();
+            case DEPENDENCY_RESOLUTION -> new BeanStartupEvent.DependencyResolution();
+            case INSTANTIATION -> new BeanStartupEvent.Instantiation();
+            case POST_PROCESSING -> new BeanStartupEvent.PostProcessing();
+            case INITIALIZATION -> new BeanStartupEvent.Initialization();
+        };
+    }
+
+    /**
+     * 各阶段事件的 {@link EventType}，只在 JFR 可用时加载，判断是否开启记录时无需创建事件
+     */
+    private static final class EventTypes {
+
+        private static final EventType[] BY_PHASE = new EventType[StartupPhase.values().length];
+
+        static {
+            for (final StartupPhase phase : StartupPhase.values()) {
+                BY_PHASE[phase.ordinal()] = EventType.getEventType(newEvent(phase).getClass());
+            }
+        }
+
+        private static boolean isEnabled(StartupPhase phase) {
+            return BY_PHASE[phase.ordinal()].isEnabled();
+        }
+    }
+
+    public void end() {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
+        if (step != null) {
+            step.end();
+        }
+    }
+}
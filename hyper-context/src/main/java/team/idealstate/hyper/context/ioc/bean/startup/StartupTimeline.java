@@ -0,0 +1,269 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.context.ioc.bean.startup;
+
+import team.idealstate.hyper.commons.lang.NotNull;
+import team.idealstate.hyper.commons.lang.Nullable;
+import team.idealstate.hyper.commons.asserts.Asserts;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>StartupTimeline</p>
+ * 记录 bean 启动过程中各阶段的耗时，可导出为 CSV 以查找启动缓慢的 bean<br>
+ * 每个步骤记录墙钟时间、自身时间（扣除嵌套的其他 bean 的创建与等待）以及等待其他线程创建依赖的时间
+ *
+ * <p>Created on 2026/10/17 16:40</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+public final class StartupTimeline {
+
+    private static final String CSV_HEADER = "bean,phase,detail,thread,start_ms,wall_ms,self_ms,wait_ms";
+    private static final int DEFAULT_MAX_STEPS = 100_000;
+
+    private final long origin = System.nanoTime();
+    private final int maxSteps;
+    private final AtomicInteger recordedSteps = new AtomicInteger();
+    private final AtomicInteger droppedSteps = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Step> steps = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Deque<Step>> activeSteps = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public StartupTimeline() {
+        this(DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * @param maxSteps 最多保留的步骤数量，超出后的步骤只参与嵌套耗时的计算而不再保留，
+     *                 避免刷新后原型 bean 的持续创建使时间线无限增长
+     */
+    public StartupTimeline(int maxSteps) {
+        Asserts.isTrue(maxSteps > 0, "maxSteps must be greater than 0");
+        this.maxSteps = maxSteps;
+    }
+
+    @NotNull
+    Step start(@NotNull StartupPhase phase, @NotNull String beanName, @Nullable String detail) {
+        final Deque<Step> active = activeSteps.get();
+        final Step step = new Step(phase, beanName, detail, Thread.currentThread().getName(), System.nanoTime());
+        active.push(step);
+        if (recordedSteps.get() < maxSteps && recordedSteps.incrementAndGet() <= maxSteps) {
+            steps.add(step);
+        } else {
+            droppedSteps.incrementAndGet();
+        }
+        return step;
+    }
+
+    /**
+     * @return 因超出最大数量而未保留的步骤数量
+     */
+    public int getDroppedSteps() {
+        return droppedSteps.get();
+    }
+
+    /**
+     * 记录当前线程等待其他线程创建 bean 的时间，计入当前正在进行的步骤
+     *
+     * @param waitNanos 等待时间（纳秒）
+     */
+    public void recordWait(long waitNanos) {
+        if (waitNanos <= 0) {
+            return;
+        }
+        final Deque<Step> active = activeSteps.get();
+        for (final Step step : active) {
+            step.waitNanos += waitNanos;
+            if (step.phase == StartupPhase.CREATION) {
+                break;
+            }
+        }
+    }
+
+    private void end(Step step) {
+        step.wallNanos = System.nanoTime() - step.startNanos;
+        final Deque<Step> active = activeSteps.get();
+        active.remove(step);
+        if (step.phase != StartupPhase.CREATION) {
+            return;
+        }
+        for (final Step enclosing : active) {
+            enclosing.nestedNanos += step.wallNanos;
+            if (enclosing.phase == StartupPhase.CREATION) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return 已结束的步骤，按开始时间排序
+     */
+    @NotNull
+    public List<Step> getSteps() {
+        final List<Step> result = new ArrayList<>(steps.size());
+        for (final Step step : steps) {
+            if (step.isEnded()) {
+                result.add(step);
+            }
+        }
+        result.sort(Comparator.comparingLong(step -> step.startNanos));
+        return result;
+    }
+
+    /**
+     * @param phase 阶段
+     * @return 指定阶段的已结束步骤，按墙钟时间降序排列
+     */
+    @NotNull
+    public List<Step> getSlowest(@NotNull StartupPhase phase) {
+        Asserts.notNull(phase, "phase");
+        final List<Step> result = new ArrayList<>(64);
+        for (final Step step : getSteps()) {
+            if (step.phase == phase) {
+                result.add(step);
+            }
+        }
+        result.sort(Comparator.comparingLong(Step::getWallNanos).reversed());
+        return result;
+    }
+
+    /**
+     * 以 CSV 格式导出所有已结束的步骤，时间单位为毫秒
+     *
+     * @param out 输出
+     * @throws IOException 写入失败
+     */
+    public void export(@NotNull Appendable out) throws IOException {
+        Asserts.notNull(out, "out");
+        out.append(CSV_HEADER).append('\n');
+        for (final Step step : getSteps()) {
+            out.append(csv(step.beanName)).append(',')
+                    .append(step.phase.name()).append(',')
+                    .append(csv(step.detail)).append(',')
+                    .append(csv(step.threadName)).append(',')
+                    .append(millis(step.startNanos - origin)).append(',')
+                    .append(millis(step.wallNanos)).append(',')
+                    .append(millis(step.getSelfNanos())).append(',')
+                    .append(millis(step.waitNanos)).append('\n');
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * <p>Step</p>
+     *
+     * <p>Created on 2026/10/17 16:40</p>
+     *
+     * @author ketikai
+     * @since 1.0.0
+     */
+    public final class Step {
+
+        private final StartupPhase phase;
+        private final String beanName;
+        private final String detail;
+        private final String threadName;
+        private final long startNanos;
+        private volatile long wallNanos = -1L;
+        private long nestedNanos;
+        private long waitNanos;
+
+        private Step(StartupPhase phase, String beanName, String detail, String threadName, long startNanos) {
+            this.phase = phase;
+            this.beanName = beanName;
+            this.detail = detail;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+        }
+
+        void end() {
+            StartupTimeline.this.end(this);
+        }
+
+        private boolean isEnded() {
+            return wallNanos >= 0;
+        }
+
+        @NotNull
+        public StartupPhase getPhase() {
+            return phase;
+        }
+
+        @NotNull
+        public String getBeanName() {
+            return beanName;
+        }
+
+        @Nullable
+        public String getDetail() {
+            return detail;
+        }
+
+        @NotNull
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * @return 相对于时间线创建时的开始时间（纳秒）
+         */
+        public long getStartNanos() {
+            return startNanos - origin;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        /**
+         * @return 扣除嵌套的其他 bean 的创建时间与等待时间后的耗时（纳秒）
+         */
+        public long getSelfNanos() {
+            return Math.max(0L, wallNanos - nestedNanos - waitNanos);
+        }
+
+        /**
+         * @return 等待其他线程创建 bean 的时间（纳秒）
+         */
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ *    Copyright 2023 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.hyper.context.ioc.bean.factory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import team.idealstate.hyper.context.ioc.annotation.Autowired;
+import team.idealstate.hyper.context.ioc.annotation.Bean;
+import team.idealstate.hyper.context.ioc.annotation.InitMethod;
+import team.idealstate.hyper.context.ioc.annotation.Qualifier;
+import team.idealstate.hyper.context.ioc.exception.bean.CircularDependencyException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>ConcurrentGetBeanTest</p>
+ * 多个线程同时获取同一批 bean 时，每个单例只会创建一次且所有线程得到同一个实例，跨线程的循环依赖以异常代替死锁
+ *
+ * <p>Created on 2026/10/17 22:30</p>
+ *
+ * @author ketikai
+ * @since 1.0.0
+ */
+@Timeout(30)
+class ConcurrentGetBeanTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    private static final AtomicInteger EAGER_INITS = new AtomicInteger();
+    private static final AtomicInteger LAZY_INITS = new AtomicInteger();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+            final Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void eagerSingletonIsCreatedOnceWhileRefreshing() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            EAGER_INITS.set(0);
+            final DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+            beanFactory.registerBean(EagerBean.class);
+            final List<Object> beanObjects = runConcurrently(index -> {
+                if (index == 0) {
+                    beanFactory.refresh();
+                    return beanFactory.getBean("eager");
+                }
+                return beanFactory.getBean("eager");
+            });
+            assertEquals(1, EAGER_INITS.get(), "round " + round);
+            assertSingleInstance(beanObjects, beanFactory.getBean("eager"));
+            beanFactory.close();
+        }
+    }
+
+    @Test
+    void lazySingletonIsCreatedOnce() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LAZY_INITS.set(0);
+            final DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+            beanFactory.registerBean(LazyBean.class);
+            beanFactory.refresh();
+            final List<Object> beanObjects = runConcurrently(index -> beanFactory.getBean("lazy"));
+            assertEquals(1, LAZY_INITS.get(), "round " + round);
+            assertSingleInstance(beanObjects, beanFactory.getBean("lazy"));
+            beanFactory.close();
+        }
+    }
+
+    @Test
+    void fieldCycleIsWiredToPublishedSingletons() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            final DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+            beanFactory.registerBean(FieldA.class);
+            beanFactory.registerBean(FieldB.class);
+            beanFactory.refresh();
+            final List<Object> beanObjects = runConcurrently(index -> {
+                try {
+                    return beanFactory.getBean(index % 2 == 0 ? "fieldA" : "fieldB");
+                } catch (RuntimeException e) {
+                    // 两个线程分别从环的两端开始创建时，其中一个可能因跨线程的循环等待而失败
+                    return null;
+                }
+            });
+            final FieldA fieldA = beanFactory.getBean("fieldA");
+            final FieldB fieldB = beanFactory.getBean("fieldB");
+            assertSame(fieldB, fieldA.fieldB, "round " + round);
+            assertSame(fieldA, fieldB.fieldA, "round " + round);
+            for (final Object beanObject : beanObjects) {
+                assertTrue(beanObject == null || beanObject == fieldA || beanObject == fieldB, "round " + round);
+            }
+            beanFactory.close();
+        }
+    }
+
+    @Test
+    void crossThreadConstructorCycleFailsInsteadOfDeadlocking() throws Exception {
+        final DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        beanFactory.registerBean(ConstructorA.class);
+        beanFactory.registerBean(ConstructorB.class);
+        beanFactory.refresh();
+        final List<Object> results = runConcurrently(index -> {
+            try {
+                return beanFactory.getBean(index % 2 == 0 ? "constructorA" : "constructorB");
+            } catch (RuntimeException e) {
+                return e;
+            }
+        });
+        for (final Object result : results) {
+            assertTrue(result instanceof RuntimeException, String.valueOf(result));
+            assertTrue(isCausedByCircularDependency((Throwable) result), String.valueOf(result));
+        }
+        beanFactory.close();
+    }
+
+    private List<Object> runConcurrently(Task task) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Object>> futures = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            final int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.run(index);
+            }));
+        }
+        start.countDown();
+        final List<Object> results = new ArrayList<>(THREADS);
+        for (final Future<Object> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static boolean isCausedByCircularDependency(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircularDependencyException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertSingleInstance(List<Object> beanObjects, Object expected) {
+        final Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(beanObjects);
+        assertEquals(1, distinct.size());
+        assertSame(expected, distinct.iterator().next());
+    }
+
+    @FunctionalInterface
+    private interface Task {
+
+        Object run(int index) throws Exception;
+    }
+
+    @Bean("eager")
+    public static class EagerBean {
+
+        @InitMethod
+        public void init() throws InterruptedException {
+            EAGER_INITS.incrementAndGet();
+            Thread.sleep(5);
+        }
+    }
+
+    @Bean(value = "lazy", lazy = true)
+    public static class LazyBean {
+
+        @InitMethod
+        public void init() throws InterruptedException {
+            LAZY_INITS.incrementAndGet();
+            Thread.sleep(5);
+        }
+    }
+
+    @Bean(value = "fieldA", lazy = true)
+    public static class FieldA {
+
+        @Autowired
+        FieldB fieldB;
+
+        public FieldA() throws InterruptedException {
+            Thread.sleep(5);
+        }
+    }
+
+    @Bean(value = "fieldB", lazy = true)
+    public static class FieldB {
+
+        @Autowired
+        FieldA fieldA;
+
+        public FieldB() throws InterruptedException {
+            Thread.sleep(5);
+        }
+    }
+
+    @Bean(value = "constructorA", lazy = true)
+    public static class ConstructorA {
+
+        @Autowired
+        public ConstructorA(@Qualifier("constructorB") ConstructorB constructorB) {}
+    }
+
+    @Bean(value = "constructorB", lazy = true)
+    public static class ConstructorB {
+
+        @Autowired
+        public ConstructorB(@Qualifier("constructorA") ConstructorA constructorA) {}
+    }
+}